@@ -0,0 +1,67 @@
+package com.example.demo.board.service;
+
+import com.example.demo.board.dto.ListBoardsRequest;
+import com.example.demo.board.dto.ListBoardsResponse;
+import com.example.demo.board.dto.SuggestBoardsRequest;
+import com.example.demo.board.dto.SuggestBoardsResponse;
+import com.example.demo.perf.DatasetSeeder;
+import com.example.demo.perf.DatasetSeeder.Dataset;
+import com.example.demo.perf.PerfApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 看板列表、關鍵字篩選與前綴建議 (皆由 BoardCatalog 記憶體快照提供，量測的是分頁與 DTO 組裝)。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BoardService boardService;
+
+    private ListBoardsRequest firstPage;
+    private ListBoardsRequest keywordPage;
+    private SuggestBoardsRequest suggest;
+
+    @Setup
+    public void setUp() {
+        context = PerfApplication.start("board-service-benchmark", PerfApplication.WITHOUT_SCHEDULED_JOBS);
+        DatasetSeeder.seed(context, new Dataset(500, 1, 0, 0));
+        boardService = context.getBean(BoardService.class);
+
+        firstPage = new ListBoardsRequest();
+
+        keywordPage = new ListBoardsRequest();
+        keywordPage.setKeyword("看板01");
+
+        suggest = new SuggestBoardsRequest();
+        suggest.setPrefix("看板02");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ListBoardsResponse listBoards() {
+        return boardService.listBoards(firstPage);
+    }
+
+    @Benchmark
+    public ListBoardsResponse listBoards_Keyword() {
+        return boardService.listBoards(keywordPage);
+    }
+
+    @Benchmark
+    public SuggestBoardsResponse suggestBoards() {
+        return boardService.suggestBoards(suggest);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.common.exception;
+
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.error.ErrorResponse;
+import com.example.demo.post.error.PostErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 錯誤回應的產生與序列化 (404、403、400 等所有失敗請求都會經過)。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private ApiException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        // 與 Spring Boot 預設的 ObjectMapper 相同：時間輸出為 ISO-8601 字串
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        request = new MockHttpServletRequest("GET", "/posts/12345");
+        exception = new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleApiException() {
+        return handler.handleApiException(exception, request);
+    }
+
+    @Benchmark
+    public byte[] handleAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(handler.handleApiException(exception, request).getBody());
+    }
+
+    // 包含建立例外 (填入 stack trace) 的完整成本
+    @Benchmark
+    public byte[] throwHandleAndSerialize() throws Exception {
+        ApiException thrown = new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND);
+        return objectMapper.writeValueAsBytes(handler.handleApiException(thrown, request).getBody());
+    }
+}
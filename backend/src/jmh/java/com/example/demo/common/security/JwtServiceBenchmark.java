@@ -0,0 +1,69 @@
+package com.example.demo.common.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService 的簽發與驗證 (每個需要登入的請求都會經過 JwtAuthenticationFilter 驗證一次)。
+ * cacheHit 為同一個 token 重複驗證；cacheMiss 使用大小為 0 的 claims 快取，每次都重新驗章。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "dGhpcy1pcy1hLXRlc3Qtc2VjcmV0LWtleS1mb3ItaHMyNTYtc2lnbmluZw==";
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private UserDetails userDetails;
+    private Map<String, Object> extraClaims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedService = newService(10_000);
+        uncachedService = newService(0);
+        userDetails = new User("leo@example.com", "unused", List.of());
+        extraClaims = Map.of("userId", 1L, "role", "USER");
+        token = cachedService.generateToken(extraClaims, userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedService.generateToken(extraClaims, userDetails);
+    }
+
+    @Benchmark
+    public boolean validateToken_CacheHit() {
+        return cachedService.isTokenValid(token, userDetails);
+    }
+
+    @Benchmark
+    public boolean validateToken_CacheMiss() {
+        return uncachedService.isTokenValid(token, userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername_CacheHit() {
+        return cachedService.extractUsername(token);
+    }
+
+    private static JwtService newService(long claimsCacheMaxSize) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(service, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(service, "claimsCacheMaxSize", claimsCacheMaxSize);
+        service.init();
+        return service;
+    }
+}
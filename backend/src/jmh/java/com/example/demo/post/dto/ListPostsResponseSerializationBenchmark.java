@@ -0,0 +1,55 @@
+package com.example.demo.post.dto;
+
+import com.example.demo.post.enums.PostSort;
+import com.example.demo.post.enums.PostStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文章列表回應的 JSON 序列化，pageSize 為預設的 20 與上限 100。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListPostsResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ListPostsResponse response;
+
+    @Setup
+    public void setUp() {
+        // 與 Spring Boot 預設的 ObjectMapper 相同：時間輸出為 ISO-8601 字串
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Instant now = Instant.now();
+        List<PostItem> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            items.add(new PostItem(10_000L + i, 42L, "Leo", 3L, "閒聊", "文章標題 " + i,
+                    i * 3, 12.5 + i, PostStatus.ACTIVE, now.minusSeconds(i * 60L)));
+        }
+        response = new ListPostsResponse();
+        response.setPageSize(pageSize);
+        response.setItems(items);
+        response.setNextCursor(PostCursor.after(PostSort.LATEST, items.get(pageSize - 1)).encode());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.post.service;
+
+import com.example.demo.perf.DatasetSeeder;
+import com.example.demo.perf.DatasetSeeder.Dataset;
+import com.example.demo.perf.DatasetSeeder.SeededIds;
+import com.example.demo.perf.PerfApplication;
+import com.example.demo.post.dto.GetPostResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /posts/{postId} 的服務層：快取命中、快取未命中 (查 H2 + 組 DTO)、附帶留言。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostServiceBenchmark {
+
+    private static final int POSTS = 2_000;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostViewCache postViewCache;
+    private SeededIds ids;
+    private long nextPostId;
+
+    @Setup
+    public void setUp() {
+        context = PerfApplication.start("post-service-benchmark", PerfApplication.WITHOUT_SCHEDULED_JOBS);
+        ids = DatasetSeeder.seed(context, new Dataset(20, 100, POSTS, 25));
+        postService = context.getBean(PostService.class);
+        postViewCache = context.getBean(PostViewCache.class);
+        // 先載入所有文章，getPost_CacheHit 只量測命中路徑
+        for (long postId = ids.firstPostId(); postId <= ids.lastPostId(); postId++) {
+            postService.getPost(postId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GetPostResponse getPost_CacheHit() {
+        return postService.getPost(nextPostId());
+    }
+
+    @Benchmark
+    public GetPostResponse getPost_CacheMiss() {
+        long postId = nextPostId();
+        postViewCache.invalidate(postId);
+        return postService.getPost(postId);
+    }
+
+    @Benchmark
+    public GetPostResponse getPost_IncludeComments() {
+        return postService.getPost(ids.firstPostId(), 20);
+    }
+
+    // 在所有文章間輪替，避免只量到單一熱門文章
+    private long nextPostId() {
+        nextPostId = (nextPostId + 1) % POSTS;
+        return ids.firstPostId() + nextPostId;
+    }
+}
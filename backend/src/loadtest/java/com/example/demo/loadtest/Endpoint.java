@@ -0,0 +1,30 @@
+package com.example.demo.loadtest;
+
+/**
+ * 壓測涵蓋的端點，名稱即為 --loadtest.mix 中使用的名稱。
+ */
+public enum Endpoint {
+    LIST_POSTS("listPosts"),
+    GET_POST("getPost"),
+    LOGIN("login"),
+    CREATE_COMMENT("createComment");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Endpoint fromLabel(String label) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.label.equalsIgnoreCase(label)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint in mix: " + label);
+    }
+}
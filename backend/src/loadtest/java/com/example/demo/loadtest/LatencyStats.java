@@ -0,0 +1,82 @@
+package com.example.demo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 各端點的延遲分布 (HdrHistogram，微秒、3 位有效數字) 與錯誤數。
+ * 只記錄暖機結束後的請求。
+ */
+public final class LatencyStats {
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    // "endpoint status" -> 次數，status 為 -1 表示連線失敗或逾時
+    private final Map<String, LongAdder> errorStatuses = new ConcurrentHashMap<>();
+
+    public LatencyStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void record(Endpoint endpoint, long elapsedNanos, int status) {
+        recorders.get(endpoint).recordValue(Math.max(1, elapsedNanos / 1_000));
+        if (status < 200 || status >= 300) {
+            errors.get(endpoint).increment();
+            errorStatuses.computeIfAbsent(endpoint.label() + " " + status, key -> new LongAdder()).increment();
+        }
+    }
+
+    public void print(PrintStream out, Duration measured) {
+        double seconds = measured.toMillis() / 1000.0;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        out.printf("%-15s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long endpointErrors = errors.get(endpoint).sum();
+            printRow(out, endpoint.label(), histogram, endpointErrors, seconds);
+            total.add(histogram);
+            totalErrors += endpointErrors;
+        }
+        printRow(out, "total", total, totalErrors, seconds);
+
+        if (!errorStatuses.isEmpty()) {
+            out.println();
+            out.println("errors by status:");
+            new TreeMap<>(errorStatuses).forEach((key, count) -> out.printf("  %-30s %d%n", key, count.sum()));
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long errors, double seconds) {
+        out.printf("%-15s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
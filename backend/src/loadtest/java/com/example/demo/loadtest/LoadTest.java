@@ -0,0 +1,90 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.perf.DatasetSeeder;
+import com.example.demo.perf.DatasetSeeder.Dataset;
+import com.example.demo.perf.DatasetSeeder.SeededIds;
+import com.example.demo.perf.PerfApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 壓測進入點：產生資料集、以固定數量的虛擬使用者送出混合請求，最後輸出各端點的吞吐量與延遲百分位數。
+ * <p>
+ * 未指定 --loadtest.base-url 時在同一個 JVM 內以 H2 啟動應用程式 (可用 --spring.datasource.* 改連 MySQL)；
+ * 壓測端與應用程式共用 CPU，數字適合做前後比較，容量規劃請改用 base-url 對獨立部署的服務施壓。
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Dataset dataset = options.dataset();
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        try {
+            if (baseUrl == null) {
+                context = PerfApplication.start("loadtest", args);
+                baseUrl = "http://localhost:" + PerfApplication.port(context);
+            }
+
+            SeededIds ids;
+            if (options.seed()) {
+                if (context == null) {
+                    throw new IllegalArgumentException("--loadtest.seed=true requires the in-process application");
+                }
+                ids = DatasetSeeder.seed(context, dataset);
+            } else {
+                ids = new SeededIds(1, dataset.boards(), 1, dataset.users(), 1, dataset.posts());
+            }
+
+            System.out.printf("target=%s concurrency=%d warmup=%s duration=%s mix=%s%n",
+                    baseUrl, options.concurrency(), options.warmup(), options.duration(), options.mix());
+            LatencyStats stats = run(options, baseUrl, ids);
+
+            System.out.println();
+            stats.print(System.out, options.duration());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static LatencyStats run(LoadTestOptions options, String baseUrl, SeededIds ids) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        LatencyStats stats = new LatencyStats();
+
+        long measureFrom = System.nanoTime() + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            List<Future<?>> users = new ArrayList<>(options.concurrency());
+            for (int i = 0; i < options.concurrency(); i++) {
+                users.add(executor.submit(new VirtualUser(httpClient, objectMapper, baseUrl, ids, options.mix(),
+                        stats, measureFrom, end, i)));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.perf.DatasetSeeder.Dataset;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.time.Duration;
+
+/**
+ * 壓測參數，以 --loadtest.xxx=value 傳入；其餘參數 (例如 --spring.datasource.url) 交給內嵌的應用程式。
+ *
+ * @param baseUrl 已在執行中的服務位址；未指定時在同一個 JVM 內啟動應用程式
+ * @param seed    是否先產生資料集；關閉時假設資料庫已有相同規模、id 從 1 開始的資料
+ */
+public record LoadTestOptions(String baseUrl,
+                              boolean seed,
+                              Dataset dataset,
+                              int concurrency,
+                              Duration warmup,
+                              Duration duration,
+                              RequestMix mix) {
+
+    public static LoadTestOptions parse(String[] args) {
+        SimpleCommandLinePropertySource source = new SimpleCommandLinePropertySource(args);
+        String baseUrl = get(source, "base-url", null);
+        return new LoadTestOptions(
+                baseUrl,
+                Boolean.parseBoolean(get(source, "seed", Boolean.toString(baseUrl == null))),
+                new Dataset(
+                        Integer.parseInt(get(source, "boards", "50")),
+                        Integer.parseInt(get(source, "users", "1000")),
+                        Integer.parseInt(get(source, "posts", "20000")),
+                        Integer.parseInt(get(source, "comments-per-post", "5"))),
+                Integer.parseInt(get(source, "concurrency", "50")),
+                Duration.parse(get(source, "warmup", "PT10S")),
+                Duration.parse(get(source, "duration", "PT60S")),
+                RequestMix.parse(get(source, "mix", "listPosts=50,getPost=40,createComment=8,login=2")));
+    }
+
+    private static String get(SimpleCommandLinePropertySource source, String name, String defaultValue) {
+        String value = source.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 各端點的請求比例，例如 "listPosts=50,getPost=40,createComment=8,login=2"。
+ */
+public final class RequestMix {
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private RequestMix(Map<Endpoint, Integer> weights) {
+        this.endpoints = new Endpoint[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int index = 0;
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            endpoints[index] = entry.getKey();
+            cumulativeWeights[index] = total;
+            index++;
+        }
+        this.totalWeight = total;
+    }
+
+    public static RequestMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in mix: " + part);
+            }
+            if (weight > 0) {
+                weights.put(Endpoint.fromLabel(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no endpoint with a positive weight: " + spec);
+        }
+        return new RequestMix(weights);
+    }
+
+    public Endpoint pick(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(endpoints[i].label()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.perf.DatasetSeeder;
+import com.example.demo.perf.DatasetSeeder.SeededIds;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * 一位虛擬使用者：先登入取得 token，之後依 RequestMix 連續送出請求 (closed model，前一個回應後才送下一個)。
+ * <p>
+ * 文章的挑選偏向少數熱門文章，讓快取命中率接近真實流量，而不是每次都讀不同文章。
+ */
+final class VirtualUser implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final SeededIds ids;
+    private final RequestMix mix;
+    private final LatencyStats stats;
+    private final long measureFromNanos;
+    private final long endNanos;
+    private final SplittableRandom random;
+
+    private String accessToken;
+
+    VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, SeededIds ids, RequestMix mix,
+                LatencyStats stats, long measureFromNanos, long endNanos, long seed) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.ids = ids;
+        this.mix = mix;
+        this.stats = stats;
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < endNanos) {
+            Endpoint endpoint = accessToken == null ? Endpoint.LOGIN : mix.pick(random);
+            long started = System.nanoTime();
+            int status = send(endpoint);
+            long finished = System.nanoTime();
+            if (started >= measureFromNanos) {
+                stats.record(endpoint, finished - started, status);
+            }
+        }
+    }
+
+    private int send(Endpoint endpoint) {
+        try {
+            return switch (endpoint) {
+                case LIST_POSTS -> get("/boards/" + pick(ids.firstBoardId(), ids.lastBoardId())
+                        + "/posts?sort=" + (random.nextInt(5) == 0 ? "hot" : "latest") + "&pageSize=20").statusCode();
+                case GET_POST -> get("/posts/" + pickSkewed(ids.firstPostId(), ids.lastPostId())).statusCode();
+                case LOGIN -> login();
+                case CREATE_COMMENT -> post("/posts/" + pickSkewed(ids.firstPostId(), ids.lastPostId()) + "/comments",
+                        "{\"body\":\"壓測留言 " + random.nextInt(1_000_000) + "\"}").statusCode();
+            };
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private int login() throws IOException, InterruptedException {
+        int userIndex = (int) (random.nextLong(ids.lastUserId() - ids.firstUserId() + 1)) + 1;
+        String email = DatasetSeeder.email(userIndex);
+        HttpResponse<byte[]> response = post("/users/login",
+                "{\"email\":\"" + email + "\",\"password\":\"" + DatasetSeeder.PASSWORD + "\"}");
+        if (response.statusCode() == 200) {
+            JsonNode body = objectMapper.readTree(response.body());
+            accessToken = body.path("accessToken").asText(null);
+        }
+        return response.statusCode();
+    }
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpResponse<byte[]> post(String path, String json) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private long pick(long first, long last) {
+        return first + random.nextLong(last - first + 1);
+    }
+
+    // 三次方分布：約一半的請求落在 id 最前面 12.5% 的文章
+    private long pickSkewed(long first, long last) {
+        double r = random.nextDouble();
+        return first + (long) ((last - first + 1) * r * r * r);
+    }
+}
@@ -2,6 +2,8 @@ package com.example.demo.board.controller;
 
 import com.example.demo.board.dto.ListBoardsRequest;
 import com.example.demo.board.dto.ListBoardsResponse;
+import com.example.demo.board.dto.SuggestBoardsRequest;
+import com.example.demo.board.dto.SuggestBoardsResponse;
 import com.example.demo.board.service.BoardService;
 import com.example.demo.post.dto.CreatePostRequest;
 import com.example.demo.post.dto.CreatePostResponse;
@@ -36,6 +38,12 @@ public class BoardController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestBoardsResponse> suggestBoards(@Valid @ModelAttribute SuggestBoardsRequest request) {
+        SuggestBoardsResponse response = boardService.suggestBoards(request);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @GetMapping("/{boardId}/posts")
     public ResponseEntity<ListPostsResponse> listPosts(
             @PathVariable @Positive(message = "PATH_FORMAT_ERROR") Long boardId,
@@ -0,0 +1,26 @@
+package com.example.demo.board.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SuggestBoardsRequest {
+
+    @NotBlank(message = "KEYWORD_INVALID")
+    @Size(max = 50, message = "KEYWORD_INVALID")
+    private String prefix;
+
+    @Min(value = 1, message = "LIMIT_INVALID")
+    @Max(value = 20, message = "LIMIT_INVALID")
+    private Integer limit = 10;
+
+    /**
+     * 只 trim 前後空白；空白字串交給 @NotBlank 判斷
+     */
+    public void setPrefix(String prefix) {
+        this.prefix = prefix == null ? null : prefix.trim();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.board.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SuggestBoardsResponse {
+    // 依看板名稱排序
+    private List<BoardItem> items;
+}
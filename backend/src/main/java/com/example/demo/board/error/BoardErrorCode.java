@@ -6,7 +6,8 @@ import com.example.demo.common.error.ErrorCode;
 public enum BoardErrorCode implements ErrorCode {
     PAGE_INVALID,
     PAGE_SIZE_INVALID,
-    KEYWORD_INVALID;
+    KEYWORD_INVALID,
+    LIMIT_INVALID;
 
 
     @Override
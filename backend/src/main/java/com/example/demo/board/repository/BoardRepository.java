@@ -1,14 +1,24 @@
 package com.example.demo.board.repository;
 
 import com.example.demo.board.entity.Board;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-    Page<Board> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
+    // post_count 不對應到 Board 實體，避免 dirty checking 以舊值覆寫計數，因此用 native query 存取
+    // 查無資料代表看板不存在，可同時作為存在檢查
+    @Query(value = "SELECT post_count FROM boards WHERE board_id = :boardId", nativeQuery = true)
+    Optional<Long> findPostCountByBoardId(@Param("boardId") long boardId);
+
+    @Modifying
+    @Query(value = "UPDATE boards SET post_count = post_count + :delta WHERE board_id = :boardId", nativeQuery = true)
+    int adjustPostCount(@Param("boardId") long boardId, @Param("delta") long delta);
 
 }
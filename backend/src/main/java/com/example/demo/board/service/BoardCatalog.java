@@ -0,0 +1,217 @@
+package com.example.demo.board.service;
+
+import com.example.demo.board.entity.Board;
+import com.example.demo.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 整張 boards 表的記憶體快照。看板幾乎不會變動，列表、關鍵字篩選與存在檢查都不需要查資料庫。
+ * <p>
+ * 快照本身不可變，重新載入時整份替換 (volatile 參照)，讀取端不需要加鎖。
+ * 快照內另外建好兩種名稱索引，與快照一起替換：
+ * - n-gram 索引 (單字與相鄰兩字 -> 看板)：關鍵字篩選只需交集幾條 posting 再驗證，不必逐一比對名稱
+ * - 依名稱排序的陣列：前綴 (typeahead) 以二分搜尋定位
+ */
+@Slf4j
+@Component
+public class BoardCatalog {
+
+    private final BoardRepository boardRepository;
+
+    // 重新載入會查資料庫，用 ReentrantLock 而非 synchronized，virtual thread 等待時不會釘住 carrier thread
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public BoardCatalog(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    // 依 boardId 遞增排序的所有看板
+    public List<Entry> boards() {
+        return snapshot().boards();
+    }
+
+    // 看板名稱包含 keyword (不分大小寫)，依 boardId 遞增排序
+    public List<Entry> search(String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        Snapshot current = snapshot();
+        int[] candidates = current.candidates(needle);
+        if (candidates == null) {
+            // 沒有任何 n-gram 可用 (空字串)
+            return current.boards();
+        }
+        List<Entry> matches = new ArrayList<>(candidates.length);
+        for (int index : candidates) {
+            Entry entry = current.boards().get(index);
+            // bigram 全部出現不代表連續出現，最後仍需確認
+            if (entry.nameLowerCase().contains(needle)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    // 看板名稱以 prefix 開頭 (不分大小寫)，依名稱排序，最多 limit 筆
+    public List<Entry> suggest(String prefix, int limit) {
+        String needle = prefix.toLowerCase(Locale.ROOT);
+        List<Entry> byName = snapshot().byName();
+
+        // 二分搜尋第一個 >= prefix 的名稱
+        int low = 0;
+        int high = byName.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byName.get(mid).nameLowerCase().compareTo(needle) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<Entry> matches = new ArrayList<>(Math.min(limit, byName.size() - low));
+        for (int i = low; i < byName.size() && matches.size() < limit; i++) {
+            Entry entry = byName.get(i);
+            if (!entry.nameLowerCase().startsWith(needle)) {
+                break;
+            }
+            matches.add(entry);
+        }
+        return matches;
+    }
+
+    public boolean exists(long boardId) {
+        if (snapshot().byId().containsKey(boardId)) {
+            return true;
+        }
+        // 快照中沒有時再確認一次資料庫，避免剛新增的看板在下次重新載入前被判定為不存在
+        if (boardRepository.existsById(boardId)) {
+            refresh();
+            return true;
+        }
+        return false;
+    }
+
+    // 定期重新載入；看板有異動時也可直接呼叫
+    @Scheduled(fixedDelayString = "${board-catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${board-catalog.refresh-interval-ms:60000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<Entry> boards = boardRepository.findAll(Sort.by("boardId")).stream()
+                    .map(Entry::of)
+                    .toList();
+            Map<Long, Entry> byId = boards.stream()
+                    .collect(Collectors.toUnmodifiableMap(Entry::boardId, Function.identity()));
+            List<Entry> byName = boards.stream()
+                    .sorted(Comparator.comparing(Entry::nameLowerCase).thenComparingLong(Entry::boardId))
+                    .toList();
+            this.snapshot = new Snapshot(boards, byId, byName, buildGrams(boards));
+            log.debug("Board catalog refreshed: {} boards", boards.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    public record Entry(long boardId, String name, String description, String nameLowerCase) {
+
+        static Entry of(Board board) {
+            return new Entry(board.getBoardId(), board.getName(), board.getDescription(),
+                    board.getName().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    // 每個看板名稱的單字與相鄰兩字 -> 看板在 boards 中的位置 (遞增)
+    private static Map<String, int[]> buildGrams(List<Entry> boards) {
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int index = 0; index < boards.size(); index++) {
+            for (String gram : grams(boards.get(index).nameLowerCase())) {
+                grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(index);
+            }
+        }
+        Map<String, int[]> result = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, posting) -> result.put(gram, posting.stream().mapToInt(Integer::intValue).toArray()));
+        return Map.copyOf(result);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private record Snapshot(List<Entry> boards, Map<Long, Entry> byId, List<Entry> byName,
+                            Map<String, int[]> grams) {
+
+        /**
+         * 可能包含 needle 的看板位置 (遞增)；needle 為空字串時回傳 null。
+         * 單一字元查單字 posting，否則交集 needle 所有相鄰兩字的 posting。
+         */
+        int[] candidates(String needle) {
+            if (needle.isEmpty()) {
+                return null;
+            }
+            if (needle.length() == 1) {
+                return grams.getOrDefault(needle, new int[0]);
+            }
+            int[] result = null;
+            for (int i = 0; i + 1 < needle.length(); i++) {
+                int[] posting = grams.get(needle.substring(i, i + 2));
+                if (posting == null) {
+                    return new int[0];
+                }
+                result = result == null ? posting : intersect(result, posting);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+    }
+}
@@ -3,13 +3,9 @@ package com.example.demo.board.service;
 import com.example.demo.board.dto.BoardItem;
 import com.example.demo.board.dto.ListBoardsRequest;
 import com.example.demo.board.dto.ListBoardsResponse;
-import com.example.demo.board.entity.Board;
-import com.example.demo.board.repository.BoardRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import com.example.demo.board.dto.SuggestBoardsRequest;
+import com.example.demo.board.dto.SuggestBoardsResponse;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,40 +13,55 @@ import java.util.stream.Collectors;
 @Service
 public class BoardService {
 
-    private final BoardRepository boardRepository;
+    private final BoardCatalog boardCatalog;
 
-    public BoardService(BoardRepository boardRepository) {
-        this.boardRepository = boardRepository;
+    public BoardService(BoardCatalog boardCatalog) {
+        this.boardCatalog = boardCatalog;
     }
 
-    @Transactional(readOnly = true)
+    // 直接由記憶體中的看板快照篩選與分頁，不查資料庫
     public ListBoardsResponse listBoards(ListBoardsRequest request){
         int page = Math.max(0, request.getPage() - 1);
         int pageSize = request.getPageSize();
-        Pageable pageable = PageRequest.of(page, pageSize);
 
         String keyword = request.getKeyword();
         boolean hasKeyword = keyword != null;
 
-        Page<Board> resultPage = hasKeyword
-                ? boardRepository.findByNameContainingIgnoreCase(keyword, pageable)
-                : boardRepository.findAll(pageable);
-
-        List<BoardItem> items = resultPage.getContent().stream()
-                .map(board -> {
-                    BoardItem item = new BoardItem();
-                    item.setBoardId(board.getBoardId());
-                    item.setName(board.getName());
-                    item.setDescription(board.getDescription());
-                    return item;
-                })
+        List<BoardCatalog.Entry> matches = hasKeyword
+                ? boardCatalog.search(keyword)
+                : boardCatalog.boards();
+
+        int from = (int) Math.min((long) page * pageSize, matches.size());
+        int to = Math.min(from + pageSize, matches.size());
+
+        List<BoardItem> items = matches.subList(from, to).stream()
+                .map(BoardService::toBoardItem)
                 .collect(Collectors.toList());
 
         ListBoardsResponse response = new ListBoardsResponse();
-        response.setPage(resultPage.getNumber() + 1);
-        response.setPageSize(resultPage.getSize());
-        response.setTotal(resultPage.getTotalElements());
+        response.setPage(page + 1);
+        response.setPageSize(pageSize);
+        response.setTotal(matches.size());
+        response.setItems(items);
+        return response;
+    }
+
+    // 輸入框即時提示：名稱以 prefix 開頭的看板
+    public SuggestBoardsResponse suggestBoards(SuggestBoardsRequest request) {
+        List<BoardItem> items = boardCatalog.suggest(request.getPrefix(), request.getLimit()).stream()
+                .map(BoardService::toBoardItem)
+                .collect(Collectors.toList());
+
+        SuggestBoardsResponse response = new SuggestBoardsResponse();
         response.setItems(items);
         return response;
     }
+
+    private static BoardItem toBoardItem(BoardCatalog.Entry board) {
+        BoardItem item = new BoardItem();
+        item.setBoardId(board.boardId());
+        item.setName(board.name());
+        item.setDescription(board.description());
+        return item;
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.demo.comment.dto;
+
+import com.example.demo.common.pagination.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 留言列表的 keyset cursor，以 (createdAt, commentId) 定位，遞增排序 (由舊到新)。
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    private final Instant createdAt;
+    private final long commentId;
+
+    public static CommentCursor after(CommentItem lastItem) {
+        return new CommentCursor(lastItem.getCreatedAt(), lastItem.getCommentId());
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt.toString(), Long.toString(commentId));
+    }
+
+    /**
+     * @throws IllegalArgumentException cursor 格式錯誤
+     * @throws java.time.format.DateTimeParseException 時間欄位格式錯誤
+     */
+    public static CommentCursor decode(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        return new CommentCursor(Instant.parse(parts[0]), Long.parseLong(parts[1]));
+    }
+}
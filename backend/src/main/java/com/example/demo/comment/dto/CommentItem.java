@@ -0,0 +1,18 @@
+package com.example.demo.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CommentItem {
+    private long commentId;
+    private long authorId;
+    private String authorName;
+    private String body;
+    private Instant createdAt;
+}
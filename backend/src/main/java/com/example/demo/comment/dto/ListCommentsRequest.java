@@ -0,0 +1,25 @@
+package com.example.demo.comment.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class ListCommentsRequest {
+
+    @Min(value = 1, message = "PAGE_SIZE_INVALID")
+    @Max(value = 100, message = "PAGE_SIZE_INVALID")
+    private Integer pageSize = 20;
+
+    // 上一頁回傳的 nextCursor；未提供時從第一則留言開始
+    @Size(max = 200, message = "CURSOR_INVALID")
+    private String cursor;
+
+    /**
+     * 空白字串視為未提供 cursor
+     */
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor.trim();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.comment.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ListCommentsResponse {
+    private int pageSize;
+    private List<CommentItem> items;
+    // 下一頁的 cursor；已無下一頁時為 null
+    private String nextCursor;
+}
@@ -16,7 +16,12 @@ import java.time.Instant;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(
+    name = "comments",
+    indexes = {
+        @Index(name = "idx_comments_post_status_created", columnList = "post_id, status, created_at, comment_id")
+    }
+)
 public class Comment {
 
     @Id
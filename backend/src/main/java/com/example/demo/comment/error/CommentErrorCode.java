@@ -7,6 +7,8 @@ public enum CommentErrorCode implements ErrorCode {
     BODY_INVALID,
     SECURITY_UNAUTHORIZED,
     POST_NOT_FOUND,
+    PAGE_SIZE_INVALID,
+    CURSOR_INVALID,
     ;
 
 
@@ -1,10 +1,46 @@
 package com.example.demo.comment.repository;
 
+import com.example.demo.comment.dto.CommentItem;
 import com.example.demo.comment.entity.Comment;
+import com.example.demo.comment.enums.CommentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment,Long> {
 
+    // 直接投影成 DTO，不載入 Comment / User 實體；走 idx_comments_post_status_created
+    @Query("SELECT new com.example.demo.comment.dto.CommentItem(" +
+            "c.commentId, " +
+            "c.author.userId, " +
+            "c.author.displayName, " +
+            "c.body, " +
+            "c.createdAt) " +
+            "FROM Comment c WHERE c.post.postId = :postId AND c.status = :status " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentItem> findByPostId(@Param("postId") long postId,
+                                   @Param("status") CommentStatus status,
+                                   Pageable pageable);
+
+    // keyset 分頁：從 cursor 之後接續
+    @Query("SELECT new com.example.demo.comment.dto.CommentItem(" +
+            "c.commentId, " +
+            "c.author.userId, " +
+            "c.author.displayName, " +
+            "c.body, " +
+            "c.createdAt) " +
+            "FROM Comment c WHERE c.post.postId = :postId AND c.status = :status " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentItem> findByPostIdCreatedAfter(@Param("postId") long postId,
+                                               @Param("status") CommentStatus status,
+                                               @Param("createdAt") Instant createdAt,
+                                               @Param("commentId") long commentId,
+                                               Pageable pageable);
 }
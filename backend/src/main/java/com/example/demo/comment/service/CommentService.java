@@ -1,41 +1,48 @@
 package com.example.demo.comment.service;
 
-import com.example.demo.comment.dto.CreateCommentRequest;
-import com.example.demo.comment.dto.CreateCommentResponse;
+import com.example.demo.comment.dto.*;
 import com.example.demo.comment.entity.Comment;
+import com.example.demo.comment.enums.CommentStatus;
 import com.example.demo.comment.error.CommentErrorCode;
 import com.example.demo.comment.repository.CommentRepository;
 import com.example.demo.common.error.ErrorMessage;
 import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.transaction.AfterCommit;
 import com.example.demo.post.entity.Post;
 import com.example.demo.post.enums.PostStatus;
 import com.example.demo.post.repository.PostRepository;
+import com.example.demo.post.service.HotScoreService;
+import com.example.demo.post.service.PostCounterBuffer;
+import com.example.demo.post.service.PostViewCache;
 import com.example.demo.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final HotScoreService hotScoreService;
+    private final PostViewCache postViewCache;
+    private final PostCounterBuffer postCounterBuffer;
+
+    // true：留言數在記憶體累加後批次寫回，不在 transaction 內鎖 posts 列
+    @Value("${comment.buffered-count:false}")
+    private boolean bufferedCount;
 
     @Transactional
     public CreateCommentResponse createComment(long postId, User currentUser, CreateCommentRequest createCommentRequest) {
 
-        // 先更新評論數，避免在同一個 transaction 內對已載入的 Post 進行 bulk update 造成 stale entity
-        int updateRows = postRepository.incrementCommentCount(postId, PostStatus.ACTIVE);
-
-        if (updateRows == 0){
-            throw new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND);
-        }
-
-        // 檢查文章是否存在且狀態為 ACTIVE
-        Post post = postRepository.findBasicByPostIdAndStatus(postId, PostStatus.ACTIVE)
-                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND));
-
+        Post post = bufferedCount ? referenceActivePost(postId) : incrementAndLoadPost(postId);
 
 
         // 创建评论
@@ -47,9 +54,76 @@ public class CommentService {
         // 保存評論
         Comment savedComment = commentRepository.save(comment);
 
+        if (bufferedCount) {
+            // 留言數由 PostCounterBuffer 批次寫回，寫回後會再標記熱門分數；先加入緩衝再失效，之後的載入一定包含這則留言
+            AfterCommit.run(() -> {
+                postCounterBuffer.addComments(postId, 1);
+                postViewCache.invalidate(postId);
+            });
+        } else {
+            // comment_count 已變動，交給排程重算熱門分數
+            hotScoreService.markDirty(postId);
+            AfterCommit.run(() -> postViewCache.invalidate(postId));
+        }
+
         // 返回響應
         CreateCommentResponse response = new CreateCommentResponse();
         response.setCommentId(savedComment.getCommentId());
         return response;
     }
+
+    @Transactional(readOnly = true)
+    public ListCommentsResponse listComments(long postId, ListCommentsRequest request) {
+        if (!postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)) {
+            throw new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND);
+        }
+
+        int pageSize = request.getPageSize();
+        // 多取一筆用來判斷是否還有下一頁
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentItem> rows;
+        if (request.getCursor() == null) {
+            rows = commentRepository.findByPostId(postId, CommentStatus.ACTIVE, limit);
+        } else {
+            CommentCursor cursor;
+            try {
+                cursor = CommentCursor.decode(request.getCursor());
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ApiException(ErrorMessage.VALIDATION_FAILED, CommentErrorCode.CURSOR_INVALID);
+            }
+            rows = commentRepository.findByPostIdCreatedAfter(postId, CommentStatus.ACTIVE,
+                    cursor.getCreatedAt(), cursor.getCommentId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentItem> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        ListCommentsResponse response = new ListCommentsResponse();
+        response.setPageSize(pageSize);
+        response.setItems(items);
+        response.setNextCursor(hasNext ? CommentCursor.after(items.get(items.size() - 1)).encode() : null);
+        return response;
+    }
+
+    private Post incrementAndLoadPost(long postId) {
+        // 先更新評論數，避免在同一個 transaction 內對已載入的 Post 進行 bulk update 造成 stale entity
+        int updateRows = postRepository.incrementCommentCount(postId, PostStatus.ACTIVE);
+
+        if (updateRows == 0){
+            throw new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND);
+        }
+
+        // 檢查文章是否存在且狀態為 ACTIVE
+        return postRepository.findBasicByPostIdAndStatus(postId, PostStatus.ACTIVE)
+                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND));
+    }
+
+    private Post referenceActivePost(long postId) {
+        // 一般 SELECT 確認文章存在，不取得 posts 列的鎖；留言只需要 post_id 作為外鍵
+        if (!postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)) {
+            throw new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND);
+        }
+        return postRepository.getReferenceById(postId);
+    }
 }
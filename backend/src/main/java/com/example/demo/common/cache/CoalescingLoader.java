@@ -0,0 +1,104 @@
+package com.example.demo.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 以 {@link AsyncCache} 實作的 read-through 讀取：同一個 key 同時 miss 時只有一個執行緒載入，其他執行緒等待同一份結果。
+ * <p>
+ * 同步版 {@code Cache.get(key, loader)} 會在 ConcurrentHashMap.compute 內 (持有 synchronized 鎖) 執行 loader；
+ * loader 查資料庫時，在 virtual thread 下會把 carrier thread 釘住 (pinning) 直到查詢結束。
+ * 這裡只在 compute 內放入一個尚未完成的 future，實際載入在鎖外、由呼叫端執行緒完成；
+ * 等待者停在 future 上，virtual thread 可以正常卸載。
+ * <p>
+ * loader 拋出例外時，future 以 null 正常完成：Caffeine 視為查無資料，立即移出快取，
+ * 也不會像失敗的 future 一樣逐次記錄 WARN (查無資料 (404) 屬於正常流程)。
+ * 原始例外另外記在 {@link #FAILURES}，等待同一個 future 的執行緒取出後原樣拋出。
+ */
+public final class CoalescingLoader {
+
+    // 失敗的 future -> loader 拋出的例外；以 identity 比對，future 不再被引用後自動清除
+    private static final Cache<CompletableFuture<?>, Throwable> FAILURES = Caffeine.newBuilder().weakKeys().build();
+
+    private CoalescingLoader() {
+    }
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> ours = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> ours);
+        if (future != ours) {
+            V value = join(future);
+            if (value != null) {
+                return value;
+            }
+            Throwable failure = FAILURES.getIfPresent(future);
+            if (failure != null) {
+                throw rethrow(failure);
+            }
+            // 結果為空但沒有記錄例外 (例如批次載入中這個 key 失敗)，自行載入一次
+            return loader.apply(key);
+        }
+
+        try {
+            V value = loader.apply(key);
+            ours.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 先記錄例外再完成 future，等待者被喚醒時一定看得到
+            FAILURES.put(ours, e);
+            ours.complete(null);
+            throw e;
+        }
+    }
+
+    /**
+     * 批次讀取：只把未命中的 key 交給 loader 一次載入，同樣在呼叫端執行緒、鎖外執行。
+     * loader 回傳的 map 中沒有的 key 不會寫入快取，也不會出現在結果中。
+     */
+    public static <K, V> Map<K, V> getAll(AsyncCache<K, V> cache, Iterable<? extends K> keys,
+                                          Function<Set<? extends K>, Map<K, V>> loader) {
+        // loader 在呼叫端執行緒同步執行，例外可以直接帶回來
+        Throwable[] failure = new Throwable[1];
+        Map<K, V> result = join(cache.getAll(keys, (missing, executor) -> {
+            try {
+                return CompletableFuture.completedFuture(loader.apply(missing));
+            } catch (RuntimeException | Error e) {
+                failure[0] = e;
+                return CompletableFuture.completedFuture(Map.of());
+            }
+        }));
+        if (failure[0] != null) {
+            throw rethrow(failure[0]);
+        }
+        return result;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // 只會收到 loader 拋出的 RuntimeException 或 Error
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return (RuntimeException) failure;
+    }
+}
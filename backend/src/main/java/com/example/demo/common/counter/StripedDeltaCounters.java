@@ -0,0 +1,89 @@
+package com.example.demo.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 以 key (例如 postId) 分組、尚未寫回資料庫的計數增量。
+ * <p>
+ * 每個 key 使用一個 {@link LongAdder}，同一個熱門 key 的大量併發累加會分散到不同的 cell，
+ * 不會互相爭搶同一個鎖或同一個 CAS 位置。由排程定期呼叫 {@link #drain()} 取出增量批次寫回。
+ * <p>
+ * 閒置的 counter 會被回收以免無限成長；回收與累加之間的競爭由 {@code retired} 旗標與進行中的累加數 (writers) 處理：
+ * 累加前先登記 writer 再檢查旗標，回收時先設旗標再檢查 writer，兩邊至少有一邊會看到對方。
+ * 看到旗標的累加不會寫入該 counter，而是改加到新的 counter，因此被回收的 counter 中不會殘留增量。
+ */
+public final class StripedDeltaCounters {
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public void add(long key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        while (true) {
+            Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+            counter.writers.increment();
+            try {
+                if (!counter.retired) {
+                    counter.add(delta);
+                    return;
+                }
+            } finally {
+                counter.writers.decrement();
+            }
+            // 這個 counter 正在或已經被回收，改用新的 counter 重試
+            Thread.onSpinWait();
+        }
+    }
+
+    // 尚未寫回的增量
+    public long pending(long key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    // 沒有任何 counter (包含歸零後尚未回收的) 時為 true
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    /**
+     * 取出所有非零增量並歸零；上一輪起沒有變動的 counter 會被回收。
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta != 0) {
+                drained.put(key, delta);
+            } else {
+                tryRetire(key, counter);
+            }
+        });
+        return drained;
+    }
+
+    // 寫回失敗時把增量放回去，下一輪重試
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private void tryRetire(long key, Counter counter) {
+        counter.retired = true;
+        // 先設旗標再讀 writer 與總和：與 add() 的「先登記 writer 再讀旗標」配對，
+        // 仍有累加進行中、或 drain 之後又有新的增量時放棄回收
+        if (counter.writers.sum() != 0 || counter.sum() != 0) {
+            counter.retired = false;
+            return;
+        }
+        counters.remove(key, counter);
+    }
+
+    private static final class Counter extends LongAdder {
+        private final LongAdder writers = new LongAdder();
+        private volatile boolean retired;
+    }
+}
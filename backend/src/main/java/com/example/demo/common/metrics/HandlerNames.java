@@ -0,0 +1,25 @@
+package com.example.demo.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 處理請求的 controller 方法名稱 (例如 PostController#getPost)，做為指標的 handler tag。
+ */
+final class HandlerNames {
+
+    // 沒有對應的 controller 方法 (404、被 Security 擋下的請求)
+    static final String NONE = "none";
+
+    private HandlerNames() {
+    }
+
+    static String of(HttpServletRequest request) {
+        if (request != null
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 準備每一條 SQL 前呼叫，把語句交給 {@link StatementRecorder}；不修改 SQL。
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementRecorder.record(sql);
+        return sql;
+    }
+}
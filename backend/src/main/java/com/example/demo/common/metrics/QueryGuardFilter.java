@@ -0,0 +1,103 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 計算每個請求送出的 SQL 數量 (http.server.requests.statements{handler})，
+ * 超過語句數或耗時上限時記錄路由與 SQL，方便找出 LAZY 關聯造成的 N+1。
+ * <p>
+ * failOnViolation 為 true 時改為拋出例外，讓測試在查詢數退化時直接失敗。
+ */
+@Slf4j
+public class QueryGuardFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final Duration slowRequestThreshold;
+    private final boolean failOnViolation;
+
+    public QueryGuardFilter(MeterRegistry meterRegistry,
+                            int maxStatements,
+                            Duration slowRequestThreshold,
+                            boolean failOnViolation) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.slowRequestThreshold = slowRequestThreshold;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        String violation;
+        StatementRecorder.Recording recording = StatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recording.close();
+            violation = inspect(request, recording, Duration.ofNanos(System.nanoTime() - started));
+        }
+
+        if (violation != null && failOnViolation) {
+            throw new IllegalStateException(violation);
+        }
+    }
+
+    // 回傳違規說明；未違規時回傳 null
+    private String inspect(HttpServletRequest request, StatementRecorder.Recording recording, Duration elapsed) {
+        String handler = HandlerNames.of(request);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(recording.count());
+
+        boolean tooMany = recording.count() > maxStatements;
+        boolean tooSlow = elapsed.compareTo(slowRequestThreshold) > 0;
+        if (!tooMany && !tooSlow) {
+            return null;
+        }
+
+        String violation = String.format("%s %s (%s) executed %d statements in %d ms (limit %d statements / %d ms)%s",
+                request.getMethod(), route(request), handler, recording.count(), elapsed.toMillis(),
+                maxStatements, slowRequestThreshold.toMillis(), summarize(recording.statements()));
+        log.warn("Query guard: {}", violation);
+        return violation;
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    // 相同的 SQL 合併計數，依首次出現順序列出；N+1 會呈現為同一條語句重複多次
+    private static String summarize(List<String> statements) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        statements.forEach(sql -> counts.merge(sql, 1, Integer::sum));
+
+        StringBuilder summary = new StringBuilder();
+        counts.forEach((sql, times) -> summary.append(System.lineSeparator())
+                .append("  ").append(times).append("x ").append(sql));
+        return summary.toString();
+    }
+}
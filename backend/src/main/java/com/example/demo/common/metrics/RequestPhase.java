@@ -0,0 +1,23 @@
+package com.example.demo.common.metrics;
+
+/**
+ * 單一請求內分開計時的階段，對應 http.server.requests.breakdown 的 phase tag。
+ */
+public enum RequestPhase {
+    // Spring Data repository 方法 (含查詢與 entity 映射)
+    REPOSITORY("repository"),
+    // 回應本文的 JSON 序列化
+    SERIALIZATION("serialization"),
+    // JwtAuthenticationFilter 解析 token、載入使用者
+    SECURITY("security");
+
+    private final String tagValue;
+
+    RequestPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
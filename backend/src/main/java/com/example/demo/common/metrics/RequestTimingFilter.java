@@ -0,0 +1,49 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 請求結束時，把各階段累計的時間記錄到 http.server.requests.breakdown{handler, phase}。
+ * 與 http.server.requests 對照，即可看出每個端點的時間花在資料庫、序列化還是驗證上。
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.breakdown";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long[] totals = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.finish();
+            String handler = HandlerNames.of(request);
+            for (RequestPhase phase : RequestPhase.values()) {
+                Timer.builder(METRIC_NAME)
+                        .description("Time spent in each phase of a request")
+                        .tag("handler", handler)
+                        .tag("phase", phase.tagValue())
+                        .register(meterRegistry)
+                        .record(totals[phase.ordinal()], TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
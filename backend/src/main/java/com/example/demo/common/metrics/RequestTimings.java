@@ -0,0 +1,70 @@
+package com.example.demo.common.metrics;
+
+/**
+ * 目前請求在各階段累計花費的時間 (奈秒)，由 {@link RequestTimingFilter} 在請求開始時建立、結束時輸出成指標。
+ * <p>
+ * 以 ThreadLocal 保存：請求都在同一條執行緒上處理。沒有進行中的請求時 (例如排程工作呼叫 repository) 不記錄。
+ * <p>
+ * 各階段互不重疊：以 {@link #begin(RequestPhase)} 計時的區段會扣掉期間內巢狀記錄的其他階段
+ * (例如驗證時查使用者的 repository 時間只算在 REPOSITORY)，各階段加總不會超過請求本身的時間。
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private RequestTimings() {
+    }
+
+    public static void add(RequestPhase phase, long nanos) {
+        long[] totals = CURRENT.get();
+        if (totals != null) {
+            totals[phase.ordinal()] += nanos;
+        }
+    }
+
+    // 開始計時一個區段，結束時呼叫 Span.end()
+    public static Span begin(RequestPhase phase) {
+        return new Span(phase, System.nanoTime(), recorded());
+    }
+
+    // 目前請求已記錄的總時間 (所有階段)
+    private static long recorded() {
+        long[] totals = CURRENT.get();
+        if (totals == null) {
+            return 0;
+        }
+        long sum = 0;
+        for (long total : totals) {
+            sum += total;
+        }
+        return sum;
+    }
+
+    static long[] start() {
+        long[] totals = new long[RequestPhase.values().length];
+        CURRENT.set(totals);
+        return totals;
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    public static final class Span {
+        private final RequestPhase phase;
+        private final long started;
+        private final long recordedBefore;
+
+        private Span(RequestPhase phase, long started, long recordedBefore) {
+            this.phase = phase;
+            this.started = started;
+            this.recordedBefore = recordedBefore;
+        }
+
+        // 記錄經過時間，扣除期間內巢狀記錄的時間
+        public void end() {
+            long nested = recorded() - recordedBefore;
+            add(phase, Math.max(0, System.nanoTime() - started - nested));
+        }
+    }
+}
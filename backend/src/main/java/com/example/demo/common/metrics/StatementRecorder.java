@@ -0,0 +1,91 @@
+package com.example.demo.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 記錄目前執行緒上 Hibernate 送出的 SQL (由 {@link QueryCountingStatementInspector} 回報)。
+ * <p>
+ * 錄製可以巢狀：外層 (例如測試) 與內層 (例如 {@link QueryGuardFilter}) 都會收到同一筆 SQL。
+ * 只計入經過 Hibernate 的語句，JdbcTemplate 直接送出的批次不在內。
+ * <pre>{@code
+ * try (StatementRecorder.Recording recording = StatementRecorder.start()) {
+ *     postService.getPost(postId, 0);
+ *     assertEquals(1, recording.count());
+ * }
+ * }</pre>
+ */
+public final class StatementRecorder {
+
+    // 每次錄製最多保留的 SQL 字串數；超過後只計數 (N+1 時前面幾筆已足以看出問題)
+    static final int MAX_KEPT_STATEMENTS = 200;
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private StatementRecorder() {
+    }
+
+    public static Recording start() {
+        Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void record(String sql) {
+        for (Recording recording = CURRENT.get(); recording != null; recording = recording.parent) {
+            recording.add(sql);
+        }
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final Recording parent;
+        private final List<String> statements = new ArrayList<>();
+        private int count;
+        private boolean closed;
+
+        private Recording(Recording parent) {
+            this.parent = parent;
+        }
+
+        private void add(String sql) {
+            if (closed) {
+                return;
+            }
+            count++;
+            if (statements.size() < MAX_KEPT_STATEMENTS) {
+                statements.add(sql);
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        // 依執行順序的 SQL (最多 MAX_KEPT_STATEMENTS 筆)
+        public List<String> statements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        public void reset() {
+            count = 0;
+            statements.clear();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset (seek) 分頁用的 cursor 編解碼：
+ * 把排序鍵與 id 以 "|" 串接後做 URL-safe Base64，對前端而言是不透明字串。
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... parts) {
+        String raw = String.join(DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException cursor 不是合法的 Base64 或欄位數不符
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\" + DELIMITER, -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Unexpected cursor format");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 限制 BCrypt 等 CPU 密集的密碼雜湊/比對同時執行數量的併發限制器 (不是非同步雜湊)。
+ * <p>
+ * 雜湊在固定大小的專用執行緒池上執行，同時在算雜湊的執行緒數不會超過 threads，其餘排在有上限的佇列中；
+ * 呼叫端的請求執行緒仍會同步等待結果，只是等待期間不佔用 CPU。
+ * 佇列已滿或等待超過 timeout 就拋出 {@link PasswordHashingRejectedException} (對外回 429 AUTH_BUSY)，
+ * timeout 應維持在數個雜湊時間內，飽和時快速失敗，不讓大量 Tomcat worker 長時間卡在等待，
+ * 列表等輕量請求仍有 CPU 與執行緒可用。
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // AbortPolicy：佇列滿時 execute 直接拋出 RejectedExecutionException
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        // 沒有 MeterRegistry 時 (例如單元測試) 記到不會匯出的 SimpleMeterRegistry
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            registry = new SimpleMeterRegistry();
+        }
+        this.encodeTimer = Timer.builder("auth.password.hashing")
+                .description("Time spent hashing or verifying a password on the hashing pool")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder("auth.password.hashing")
+                .description("Time spent hashing or verifying a password on the hashing pool")
+                .tag("operation", "matches")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(registry);
+        ExecutorServiceMetrics.monitor(registry, executor, "password-hashing");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matched = submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 還在佇列中的就不必再算了
+            future.cancel(false);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 雜湊執行緒池已飽和 (佇列滿或等待逾時)，呼叫端應回應 429 讓用戶端稍後重試。
+     */
+    public static class PasswordHashingRejectedException extends RuntimeException {
+        public PasswordHashingRejectedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
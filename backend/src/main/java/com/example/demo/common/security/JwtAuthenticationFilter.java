@@ -1,5 +1,10 @@
 package com.example.demo.common.security;
 
+import com.example.demo.common.metrics.RequestPhase;
+import com.example.demo.common.metrics.RequestTimings;
+import com.example.demo.user.entity.User;
+import com.example.demo.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +12,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +30,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService; // 這是 Spring Security 內建的介面，等下我們要去實作它
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // true：直接以 Token 內的 userId / role 建立身分，不查 users 表
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -40,6 +51,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 印出 DEBUG 級別的 Log
         log.debug("Incoming Request: [{} {}] from IP: {}", method, uri, remoteAddr);
 
+        // 只計入本 filter 自己的驗證時間，不含後面的 filter 與 controller；查使用者的時間算在 REPOSITORY
+        RequestTimings.Span span = RequestTimings.begin(RequestPhase.SECURITY);
+        try {
+            authenticate(request);
+        } finally {
+            span.end();
+        }
+
+        // 9. 任務完成，交棒給下一個 Filter
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request) {
         // 1. 從 Header 取得 Authorization 欄位
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
@@ -48,26 +72,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. 檢查 Header 格式：必須以 "Bearer " 開頭
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             // 如果沒有 Token，就直接放行給後面的過濾器處理 (SecurityConfig 會決定要不要擋)
-            filterChain.doFilter(request, response);
             return;
         }
 
         // 3. 提取 Token (去掉 "Bearer " 這 7 個字)
         jwt = authHeader.substring(7);
 
-        // 4. 從 Token 提取 Email (Username)
-        userEmail = jwtService.extractUsername(jwt);
+        // 4. 解析 Token (整個請求只解析一次) 並提取 Email (Username)
+        final Claims claims = jwtService.parseClaims(jwt);
+        userEmail = claims.getSubject();
 
         // 5. 關鍵邏輯：
         // (A) Email 必須存在
         // (B) SecurityContextHolder 目前必須是空的 (代表這個人還沒被認證過)
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // 去資料庫查這個人的完整資料 (包含密碼、權限)
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            // stateless 模式由 claims 建立身分；舊 Token 缺少 userId / role 時仍回資料庫查
+            UserDetails userDetails = stateless ? principalFromClaims(claims) : null;
+            if (userDetails == null) {
+                // 去資料庫查這個人的完整資料 (包含密碼、權限)
+                userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            }
 
-            // 6. 驗證 Token 是否有效
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            // 6. 驗證 Token 是否有效 (含是否已被撤銷)
+            if (jwtService.isTokenValid(claims, userDetails) && !isRevoked(userDetails, claims)) {
 
                 // 7. 製作身分證 (UsernamePasswordAuthenticationToken)
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -85,8 +113,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
+    }
 
-        // 9. 任務完成，交棒給下一個 Filter
-        filterChain.doFilter(request, response);
+    // 只帶 userId / email / role 的 User，足以判斷作者與權限，也可當作關聯的外鍵參照
+    private User principalFromClaims(Claims claims) {
+        Object userId = claims.get("userId");
+        String role = claims.get("role", String.class);
+        if (!(userId instanceof Number) || role == null) {
+            return null;
+        }
+        User user = new User();
+        user.setUserId(((Number) userId).longValue());
+        user.setEmail(claims.getSubject());
+        user.setRole(UserRole.valueOf(role));
+        return user;
+    }
+
+    private boolean isRevoked(UserDetails userDetails, Claims claims) {
+        return userDetails instanceof User user
+                && tokenRevocationStore.isRevoked(user.getUserId(), claims.getIssuedAt());
     }
 }
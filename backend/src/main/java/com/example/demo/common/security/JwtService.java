@@ -1,10 +1,15 @@
 package com.example.demo.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -13,6 +18,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
@@ -24,6 +30,28 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    // 啟動時建立一次：Key 與 JwtParser 都是不可變、thread-safe 的
+    private Key signInKey;
+    private JwtParser jwtParser;
+
+    // token -> 已驗章的 claims，每筆在 token 的 exp 到期時一併移除
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .build();
+    }
+
     // 1. 產生 Token (給使用者用)
     // 這裡通常傳入 UserDetails，這樣我們可以直接拿 username
     public String generateToken(UserDetails userDetails) {
@@ -37,15 +65,20 @@ public class JwtService {
                 .setSubject(userDetails.getUsername()) // 通常放 email
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration)) // 設定過期時間
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256) // 簽名
+                .signWith(signInKey, SignatureAlgorithm.HS256) // 簽名
                 .compact();
     }
 
     // 2. 驗證 Token 是否有效
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
+    // 已解析過的 claims 直接驗證，避免同一個請求重複解析
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
         // 檢查兩件事：1. Token 裡的 username 跟傳進來的人是不是同一個 2. Token 有沒有過期
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
     // 3. 從 Token 取得 Username (Email)
@@ -53,35 +86,52 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
-    // --- 以下是內部輔助方法 (Private Helpers) ---
-
     // 泛型方法：用來提取 Token 裡的任何資訊
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    // 解析 Token 的核心方法
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 解析並驗證 Token，同一個 Token 只會驗章一次，之後直接由快取取得。
+     * 驗章失敗或已過期時拋出 {@link io.jsonwebtoken.JwtException}，且不會寫入快取。
+     */
+    public Claims parseClaims(String token) {
+        return claimsCache.get(token, this::extractAllClaims);
     }
 
-    // 把 Base64 的字串轉成 Key 物件
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // --- 以下是內部輔助方法 (Private Helpers) ---
+
+    // 解析 Token 的核心方法
+    private Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     // 檢查是否過期
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // 快取項目的存活時間 = 距離 token exp 的剩餘時間
+    private class ExpireAtTokenExp implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration != null
+                    ? expiration.getTime() - System.currentTimeMillis()
+                    : jwtExpiration;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,6 +1,9 @@
 package com.example.demo.common.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -20,6 +23,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -31,7 +36,8 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            CorsConfigurationSource corsConfigurationSource
+            CorsConfigurationSource corsConfigurationSource,
+            @Value("${management.server.port:-1}") int managementPort
     ) throws Exception {
 
         return http
@@ -45,8 +51,17 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/users/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/users/login").permitAll()
                         .requestMatchers(HttpMethod.GET, "/boards").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/boards/suggest").permitAll()
                         .requestMatchers(HttpMethod.GET, "/boards/{boardId}/posts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/feed").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/search/posts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/posts").permitAll()
                         .requestMatchers(HttpMethod.GET, "/posts/{postId}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/posts/{postId}/comments").permitAll()
+                        // 監控抓取只在管理埠 (management.server.port) 免登入；與公開埠相同時 prometheus 仍需登入
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort)
+                        .permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -67,9 +82,15 @@ public class SecurityConfig {
         return source;
     }
 
+    // 限制同時進行的雜湊數量；threads 為 0 時使用 CPU 核心數。飽和時等待超過 timeout 即回 429，不長時間佔住請求執行緒
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${security.password-hashing.timeout:PT1S}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeout, meterRegistry);
     }
 }
 
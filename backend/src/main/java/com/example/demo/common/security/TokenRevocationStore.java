@@ -0,0 +1,45 @@
+package com.example.demo.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 記錄每個使用者「在此時間點之前簽發的 Token 一律失效」。
+ * 用於密碼、角色變更後讓舊 Token 立即失效，不需要每次請求都回資料庫查使用者。
+ * <p>
+ * 紀錄只需保留到 Token 的最長效期，過了之後舊 Token 本身就已過期。
+ * <p>
+ * JWT 的 iat 只到秒：與撤銷同一秒簽發的 Token 無法分辨先後，一律視為已撤銷 (寧可多擋)；
+ * 撤銷後立刻重新登入拿到的 Token 要到下一秒才會生效。
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final Cache<Long, Instant> revokedBefore;
+
+    public TokenRevocationStore(@Value("${jwt.expiration}") long jwtExpiration) {
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpiration))
+                .build();
+    }
+
+    // 讓該使用者目前所有已簽發的 Token 失效
+    public void revokeAll(long userId) {
+        revokedBefore.put(userId, Instant.now());
+    }
+
+    public boolean isRevoked(long userId, Date issuedAt) {
+        Instant threshold = revokedBefore.getIfPresent(userId);
+        if (threshold == null) {
+            return false;
+        }
+        // iat <= 撤銷時間：同一秒內、在撤銷之前簽發的 Token 也會失效
+        return issuedAt == null || !issuedAt.toInstant().isAfter(threshold);
+    }
+}
@@ -1,28 +1,64 @@
 package com.example.demo.common.security;
 
+import com.example.demo.common.cache.CoalescingLoader;
 import com.example.demo.user.entity.User;
+import com.example.demo.user.event.UserCredentialsChangedEvent;
 import com.example.demo.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.Collections;
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // email -> User，有大小與存活時間上限；密碼、角色變動時由 onCredentialsChanged 清除
+    private final AsyncCache<String, User> userCache;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  TokenRevocationStore tokenRevocationStore,
+                                  ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${security.user-cache.max-size:10000}") long maxSize,
+                                  @Value("${security.user-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        // 匯出 cache.gets{result=hit|miss}、cache.evictions、cache.size 等指標
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, userCache, "users"));
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        // 查詢在快取的鎖外執行，virtual thread 下不會釘住 carrier thread
+        User user = CoalescingLoader.get(userCache, email, key -> userRepository.findByEmail(key).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
 
         return user;
     }
+
+    // commit 後才清除，避免其他請求在 commit 前又把舊資料載回快取
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        userCache.synchronous().invalidate(event.previousEmail());
+        tokenRevocationStore.revokeAll(event.userId());
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.demo.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 在目前交易 commit 之後才執行動作 (例如更新記憶體快取)，
+ * 避免其他執行緒在 commit 前就從 DB 讀回舊資料並寫回快取。
+ * 沒有進行中的交易時直接執行。
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
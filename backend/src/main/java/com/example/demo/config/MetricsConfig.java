@@ -0,0 +1,65 @@
+package com.example.demo.config;
+
+import com.example.demo.common.metrics.HandlerObservationConvention;
+import com.example.demo.common.metrics.RequestPhase;
+import com.example.demo.common.metrics.RequestTimingFilter;
+import com.example.demo.common.metrics.RequestTimings;
+import com.example.demo.common.metrics.TimedJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每個 controller 方法的延遲分布，以及資料庫 / 序列化 / 驗證各自花費的時間。
+ * 指標由 /actuator/prometheus 輸出，預設值見 metrics.properties。
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    // http.server.requests 加上 handler tag (例如 PostController#getPost)
+    @Bean
+    public HandlerObservationConvention handlerObservationConvention() {
+        return new HandlerObservationConvention();
+    }
+
+    // 最外層：包住 Spring Security 與 DispatcherServlet，請求結束時輸出各階段時間
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // 取代 Spring Boot 預設的 JSON converter (同一個 ObjectMapper)，計入序列化時間
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJackson2HttpMessageConverter(objectMapper);
+    }
+
+    // 每次 repository 方法呼叫的時間計入目前請求 (Spring Data 另外提供 spring.data.repository.invocations)
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> RequestTimings.add(RequestPhase.REPOSITORY,
+                                    invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
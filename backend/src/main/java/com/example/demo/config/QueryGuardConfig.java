@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import com.example.demo.common.metrics.QueryCountingStatementInspector;
+import com.example.demo.common.metrics.QueryGuardFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 慢查詢與 N+1 偵測：
+ * - 單一 SQL 超過 slow-query 時由 Hibernate 記錄到 org.hibernate.SQL_SLOW (0 表示關閉)
+ * - 單一請求的 SQL 數量超過 max-statements 或耗時超過 slow-request 時由 {@link QueryGuardFilter} 記錄路由與 SQL
+ */
+@Configuration
+public class QueryGuardConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryGuardHibernateProperties(
+            @Value("${query-guard.slow-query:PT0.2S}") Duration slowQuery) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            if (!slowQuery.isZero()) {
+                properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQuery.toMillis());
+            }
+        };
+    }
+
+    // 排在 Spring Security 之前，JWT 驗證時載入使用者的查詢也會計入
+    @Bean
+    public FilterRegistrationBean<QueryGuardFilter> queryGuardFilter(
+            MeterRegistry meterRegistry,
+            @Value("${query-guard.max-statements:20}") int maxStatements,
+            @Value("${query-guard.slow-request:PT1S}") Duration slowRequest,
+            @Value("${query-guard.fail-on-violation:false}") boolean failOnViolation) {
+        FilterRegistrationBean<QueryGuardFilter> registration = new FilterRegistrationBean<>(
+                new QueryGuardFilter(meterRegistry, maxStatements, slowRequest, failOnViolation));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.feed.controller;
+
+import com.example.demo.feed.dto.ListFeedRequest;
+import com.example.demo.feed.dto.ListFeedResponse;
+import com.example.demo.feed.service.FeedService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @GetMapping
+    public ResponseEntity<ListFeedResponse> listFeed(@Valid @ModelAttribute ListFeedRequest request) {
+        ListFeedResponse response = feedService.listFeed(request);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.feed.dto;
+
+import com.example.demo.post.enums.PostSort;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Data
+public class ListFeedRequest {
+
+    @Min(value = 1, message = "PAGE_SIZE_INVALID")
+    @Max(value = 100, message = "PAGE_SIZE_INVALID")
+    private Integer pageSize = 40;
+
+    @NotNull(message = "SORT_INVALID")
+    private PostSort sort = PostSort.LATEST;
+
+    // 以逗號分隔的看板 ID；未提供時合併所有看板
+    @Pattern(regexp = "^\\d{1,18}(,\\d{1,18})*$", message = "BOARD_IDS_INVALID")
+    private String boardIds;
+
+    // 上一頁回傳的 nextCursor
+    @Size(max = 200, message = "CURSOR_INVALID")
+    private String cursor;
+
+    /**
+     * 忽略空白；空字串視為未提供
+     */
+    public void setBoardIds(String boardIds) {
+        String stripped = boardIds == null ? "" : boardIds.replaceAll("\\s+", "");
+        this.boardIds = stripped.isEmpty() ? null : stripped;
+    }
+
+    /**
+     * 空白字串視為未提供 cursor
+     */
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor.trim();
+    }
+
+    // 未指定看板時回傳 null
+    public List<Long> toBoardIdList() {
+        if (boardIds == null) {
+            return null;
+        }
+        return Arrays.stream(boardIds.split(",")).map(Long::valueOf).distinct().toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.feed.dto;
+
+import com.example.demo.post.dto.PostItem;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ListFeedResponse {
+    private int pageSize;
+    private List<PostItem> items;
+    // 下一頁的 cursor；已無下一頁時為 null
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.feed.error;
+
+import com.example.demo.common.error.ErrorCode;
+
+public enum FeedErrorCode implements ErrorCode {
+    PAGE_SIZE_INVALID,
+    SORT_INVALID,
+    CURSOR_INVALID,
+    BOARD_IDS_INVALID,
+    BOARD_NOT_FOUND;
+
+
+    @Override
+    public String code() {
+        return name();
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.feed.service;
+
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.ApiException;
+import com.example.demo.feed.dto.ListFeedRequest;
+import com.example.demo.feed.dto.ListFeedResponse;
+import com.example.demo.feed.error.FeedErrorCode;
+import com.example.demo.post.dto.PostCursor;
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostSort;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import com.example.demo.post.service.HotRankingIndex;
+import com.example.demo.post.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 跨看板的首頁動態。
+ * <p>
+ * 未指定看板時 (所有看板) 直接以單一 keyset 查詢跨看板取一頁 (走 idx_posts_created / idx_posts_hot)，
+ * 查詢次數與看板數量無關。
+ * <p>
+ * 指定看板時把這些看板各自已排序的文章流做 k-way merge：每個看板只以 keyset 查詢取一小段 (走 idx_posts_board_created / idx_posts_board_hot)，
+ * 用 priority queue 依排序鍵挑出下一篇，某個看板的緩衝用完才再往後取下一段，
+ * 不需要對整張 posts 表排序。HOT 的第一段優先由 {@link HotRankingIndex} 提供。
+ * cursor 與看板列表相同 (排序鍵 + postId)，排序是全域一致的，因此對每個看板都能直接接續。
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    // 每個看板每次至少取幾筆，避免看板很多時每段太小、來回查詢次數變多
+    private static final int MIN_CHUNK_SIZE = 8;
+
+    private static final Comparator<PostItem> LATEST_ORDER = Comparator
+            .comparing(PostItem::getCreatedAt).reversed()
+            .thenComparing(Comparator.comparingLong(PostItem::getPostId).reversed());
+
+    private static final Comparator<PostItem> HOT_ORDER = Comparator
+            .comparingDouble(PostItem::getHotScore).reversed()
+            .thenComparing(Comparator.comparingLong(PostItem::getPostId).reversed());
+
+    private final PostRepository postRepository;
+    private final HotRankingIndex hotRankingIndex;
+    private final BoardCatalog boardCatalog;
+
+    // 使用者一次最多指定幾個看板；每個看板至少一次查詢，需低於 query-guard.max-statements
+    @Value("${feed.max-boards:16}")
+    private int maxBoards;
+
+    // 所有查詢共用同一個連線，不必每個看板各取一次連線
+    @Transactional(readOnly = true)
+    public ListFeedResponse listFeed(ListFeedRequest request) {
+        PostSort sort = request.getSort();
+        int pageSize = request.getPageSize();
+        List<Long> boardIds = resolveBoards(request.toBoardIdList());
+
+        PostCursor cursor = null;
+        if (request.getCursor() != null) {
+            try {
+                cursor = PostCursor.decode(request.getCursor(), sort);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ApiException(ErrorMessage.VALIDATION_FAILED, FeedErrorCode.CURSOR_INVALID);
+            }
+        }
+
+        // 多取一筆用來判斷是否還有下一頁
+        int limit = pageSize + 1;
+        List<PostItem> rows = boardIds == null
+                ? fetchAllBoards(sort, cursor, limit)
+                : merge(boardIds, sort, cursor, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostItem> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        ListFeedResponse response = new ListFeedResponse();
+        response.setPageSize(pageSize);
+        response.setItems(items);
+        response.setNextCursor(hasNext ? PostCursor.after(sort, items.get(items.size() - 1)).encode() : null);
+        return response;
+    }
+
+    private List<PostItem> merge(List<Long> boardIds, PostSort sort, PostCursor cursor, int limit) {
+        int chunkSize = Math.min(limit, Math.max(MIN_CHUNK_SIZE, (2 * limit + boardIds.size() - 1) / boardIds.size()));
+
+        Comparator<PostItem> order = sort == PostSort.HOT ? HOT_ORDER : LATEST_ORDER;
+        PriorityQueue<BoardStream> heads = new PriorityQueue<>(boardIds.size(), Comparator.comparing(BoardStream::head, order));
+        for (long boardId : boardIds) {
+            BoardStream stream = new BoardStream(boardId, cursor);
+            if (stream.fill(sort, chunkSize)) {
+                heads.add(stream);
+            }
+        }
+
+        List<PostItem> rows = new ArrayList<>(limit);
+        while (rows.size() < limit && !heads.isEmpty()) {
+            BoardStream stream = heads.poll();
+            rows.add(stream.next());
+            // 再取時直接取足這頁剩下的筆數，同一個看板不會在一頁內反覆查詢
+            if (stream.fill(sort, Math.max(chunkSize, limit - rows.size()))) {
+                heads.add(stream);
+            }
+        }
+        return rows;
+    }
+
+    // 未指定看板：null 表示所有看板
+    private List<Long> resolveBoards(List<Long> requested) {
+        if (requested == null) {
+            return null;
+        }
+        if (requested.size() > maxBoards || requested.stream().anyMatch(id -> id <= 0)) {
+            throw new ApiException(ErrorMessage.VALIDATION_FAILED, FeedErrorCode.BOARD_IDS_INVALID);
+        }
+        for (long boardId : requested) {
+            if (!boardCatalog.exists(boardId)) {
+                throw new ApiException(ErrorMessage.NOT_FOUND, FeedErrorCode.BOARD_NOT_FOUND);
+            }
+        }
+        return requested;
+    }
+
+    private List<PostItem> fetchAllBoards(PostSort sort, PostCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        if (after != null) {
+            return sort == PostSort.HOT
+                    ? postRepository.findHotScoreBelow(PostStatus.ACTIVE, after.getHotScore(), after.getPostId(), limit)
+                    : postRepository.findCreatedBefore(PostStatus.ACTIVE, after.getCreatedAt(), after.getPostId(), limit);
+        }
+        Sort order = sort == PostSort.HOT ? HotRankingIndex.HOT_SORT : PostService.LATEST_SORT;
+        return postRepository.findItemsByStatus(PostStatus.ACTIVE, PageRequest.of(0, size, order)).getContent();
+    }
+
+    private List<PostItem> fetch(long boardId, PostSort sort, PostCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        if (after != null) {
+            return sort == PostSort.HOT
+                    ? postRepository.findByBoardIdHotScoreBelow(boardId, PostStatus.ACTIVE, after.getHotScore(), after.getPostId(), limit)
+                    : postRepository.findByBoardIdCreatedBefore(boardId, PostStatus.ACTIVE, after.getCreatedAt(), after.getPostId(), limit);
+        }
+        if (sort == PostSort.HOT) {
+            Optional<List<PostItem>> ranked = hotRankingIndex.page(boardId, 0, size);
+            if (ranked.isPresent()) {
+                return ranked.get();
+            }
+            return postRepository.findByBoardId(boardId, PostStatus.ACTIVE,
+                    PageRequest.of(0, size, HotRankingIndex.HOT_SORT)).getContent();
+        }
+        return postRepository.findByBoardId(boardId, PostStatus.ACTIVE,
+                PageRequest.of(0, size, PostService.LATEST_SORT)).getContent();
+    }
+
+    /**
+     * 單一看板的文章流：緩衝目前取到的一段，用完後從最後一篇之後再取下一段。
+     */
+    private final class BoardStream {
+        private final long boardId;
+        private final ArrayDeque<PostItem> buffer = new ArrayDeque<>();
+        private PostCursor position;
+        private boolean exhausted;
+
+        BoardStream(long boardId, PostCursor position) {
+            this.boardId = boardId;
+            this.position = position;
+        }
+
+        PostItem head() {
+            return buffer.peekFirst();
+        }
+
+        PostItem next() {
+            return buffer.pollFirst();
+        }
+
+        // 緩衝為空時往後取一段；回傳是否還有文章
+        boolean fill(PostSort sort, int chunkSize) {
+            if (buffer.isEmpty() && !exhausted) {
+                List<PostItem> chunk = fetch(boardId, sort, position, chunkSize);
+                exhausted = chunk.size() < chunkSize;
+                if (!chunk.isEmpty()) {
+                    buffer.addAll(chunk);
+                    position = PostCursor.after(sort, chunk.get(chunk.size() - 1));
+                }
+            }
+            return !buffer.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ToggleLikeResponse {
+    private boolean liked;
+    private long likeCount;
+}
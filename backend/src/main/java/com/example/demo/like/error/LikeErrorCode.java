@@ -0,0 +1,16 @@
+package com.example.demo.like.error;
+
+import com.example.demo.common.error.ErrorCode;
+
+public enum LikeErrorCode implements ErrorCode {
+    PATH_FORMAT_ERROR,
+    SECURITY_UNAUTHORIZED,
+    POST_NOT_FOUND,
+    ;
+
+
+    @Override
+    public String code() {
+        return name();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.like.repository;
+
+import com.example.demo.like.entity.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.user.userId = :userId AND l.post.postId = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") long userId, @Param("postId") long postId);
+
+    // 同一個使用者併發送出兩次 like 時，第二筆被 uq_likes_user_post 擋下並回傳 0，不會拋例外讓 transaction 失效
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, post_id, created_at) VALUES (:userId, :postId, CURRENT_TIMESTAMP(6))",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") long userId, @Param("postId") long postId);
+}
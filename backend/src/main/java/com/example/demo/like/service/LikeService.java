@@ -0,0 +1,61 @@
+package com.example.demo.like.service;
+
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.transaction.AfterCommit;
+import com.example.demo.like.dto.ToggleLikeResponse;
+import com.example.demo.like.error.LikeErrorCode;
+import com.example.demo.like.repository.PostLikeRepository;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import com.example.demo.post.service.PostCounterBuffer;
+import com.example.demo.post.service.PostViewCache;
+import com.example.demo.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final PostCounterBuffer postCounterBuffer;
+    private final PostViewCache postViewCache;
+
+    @Transactional
+    public ToggleLikeResponse toggleLike(long postId, User currentUser) {
+        // 檢查文章存在，同時取得目前的讚數 (一般 SELECT，不鎖 posts 列)；
+        // 已寫回的讚數與尚未寫回的增量一起讀，期間不會有寫回，同一份增量不會漏算或重複計算
+        long currentLikeCount = postCounterBuffer.readConsistent(() -> postRepository
+                .findLikeCountByPostIdAndStatus(postId, PostStatus.ACTIVE)
+                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, LikeErrorCode.POST_NOT_FOUND))
+                + postCounterBuffer.pendingLikes(postId));
+
+        long userId = currentUser.getUserId();
+
+        // 已按過讚就取消，否則新增；由 uq_likes_user_post 保證每人每篇最多一個讚
+        boolean liked;
+        int delta;
+        if (postLikeRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
+            liked = false;
+            delta = -1;
+        } else {
+            liked = true;
+            delta = postLikeRepository.insertIgnore(userId, postId);
+        }
+
+        // posts.like_count 不在這裡更新，commit 後交給 PostCounterBuffer 合併寫回
+        long likeCount = currentLikeCount + delta;
+        if (delta != 0) {
+            AfterCommit.run(() -> {
+                postCounterBuffer.addLikes(postId, delta);
+                // 先加入緩衝再失效：之後的載入一定包含這次的增量
+                postViewCache.invalidate(postId);
+            });
+        }
+
+        return new ToggleLikeResponse(liked, Math.max(likeCount, 0));
+    }
+}
@@ -2,14 +2,22 @@ package com.example.demo.post.controller;
 
 import com.example.demo.comment.dto.CreateCommentRequest;
 import com.example.demo.comment.dto.CreateCommentResponse;
+import com.example.demo.comment.dto.ListCommentsRequest;
+import com.example.demo.comment.dto.ListCommentsResponse;
 import com.example.demo.comment.service.CommentService;
+import com.example.demo.like.dto.ToggleLikeResponse;
+import com.example.demo.like.service.LikeService;
 import com.example.demo.post.dto.DeletePostResponse;
 import com.example.demo.post.dto.GetPostResponse;
+import com.example.demo.post.dto.GetPostsRequest;
+import com.example.demo.post.dto.GetPostsResponse;
 import com.example.demo.post.dto.UpdatePostRequest;
 import com.example.demo.post.dto.UpdatePostResponse;
 import com.example.demo.post.service.PostService;
 import com.example.demo.user.entity.User;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,10 +31,21 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
     private final PostService postService;
     private final CommentService commentService;
+    private final LikeService likeService;
+
+    @GetMapping
+    public ResponseEntity<GetPostsResponse> getPosts(@Valid @ModelAttribute GetPostsRequest request) {
+        GetPostsResponse response = postService.getPosts(request.toIdList());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<GetPostResponse> getPost(@Positive(message = "PATH_FORMAT_ERROR") @PathVariable Long postId) {
-        GetPostResponse response = postService.getPost(postId);
+    public ResponseEntity<GetPostResponse> getPost(
+            @Positive(message = "PATH_FORMAT_ERROR") @PathVariable Long postId,
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "INCLUDE_COMMENTS_INVALID")
+            @Max(value = 50, message = "INCLUDE_COMMENTS_INVALID") int includeComments) {
+        GetPostResponse response = postService.getPost(postId, includeComments);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -55,4 +74,20 @@ public class PostController {
         CreateCommentResponse response = commentService.createComment(postId, user, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<ListCommentsResponse> listComments(
+            @PathVariable @Positive(message = "PATH_FORMAT_ERROR") Long postId,
+            @Valid @ModelAttribute ListCommentsRequest request) {
+        ListCommentsResponse response = commentService.listComments(postId, request);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping("/{postId}/like")
+    public ResponseEntity<ToggleLikeResponse> toggleLike(
+            @PathVariable @Positive(message = "PATH_FORMAT_ERROR") Long postId,
+            @AuthenticationPrincipal User user) {
+        ToggleLikeResponse response = likeService.toggleLike(postId, user);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
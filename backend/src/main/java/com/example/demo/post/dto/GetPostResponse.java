@@ -1,16 +1,18 @@
 package com.example.demo.post.dto;
 
+import com.example.demo.comment.dto.CommentItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class GetPostResponse {
     private long postId;
     private long authorId;
@@ -22,5 +24,8 @@ public class GetPostResponse {
     private int likeCount;
     private int commentCount;
     private Instant createdAt;
+    // 以 includeComments 要求時才有值：最早的 N 則留言，以及接續 GET /posts/{postId}/comments 的 cursor
+    private List<CommentItem> comments;
+    private String nextCommentsCursor;
 
 }
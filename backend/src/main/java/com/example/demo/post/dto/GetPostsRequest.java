@@ -0,0 +1,28 @@
+package com.example.demo.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Data
+public class GetPostsRequest {
+
+    // 以逗號分隔的文章 ID，例如 1,2,3；數量上限由 PostService 檢查
+    @NotBlank(message = "IDS_INVALID")
+    @Pattern(regexp = "^\\d{1,18}(,\\d{1,18})*$", message = "IDS_INVALID")
+    private String ids;
+
+    /**
+     * 忽略空白，例如 "1, 2, 3"
+     */
+    public void setIds(String ids) {
+        this.ids = ids == null ? null : ids.replaceAll("\\s+", "");
+    }
+
+    public List<Long> toIdList() {
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.post.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GetPostsResponse {
+    // 與請求的 ids 順序一致 (重複的 id 會重複出現)
+    private List<PostLookupItem> items;
+}
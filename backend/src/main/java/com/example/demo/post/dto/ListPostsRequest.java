@@ -4,6 +4,7 @@ import com.example.demo.post.enums.PostSort;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 
@@ -19,4 +20,15 @@ public class ListPostsRequest {
 
     @NotNull(message = "SORT_INVALID")
     private PostSort sort = PostSort.LATEST;
+
+    // 上一頁回傳的 nextCursor；有帶值時改用 keyset 分頁並忽略 page
+    @Size(max = 200, message = "CURSOR_INVALID")
+    private String cursor;
+
+    /**
+     * 空白字串視為未提供 cursor
+     */
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor.trim();
+    }
 }
@@ -6,8 +6,11 @@ import java.util.List;
 
 @Data
 public class ListPostsResponse {
-    private int page;
+    // cursor 模式下不適用頁碼，page 為 null
+    private Integer page;
     private int pageSize;
-    private long total;
+    private Long total;
     private List<PostItem> items;
+    // 下一頁的 cursor；已無下一頁時為 null
+    private String nextCursor;
 }
@@ -0,0 +1,16 @@
+package com.example.demo.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 更新文章後回應與索引需要的欄位 (不載入作者、看板實體)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostContentItem {
+    private long postId;
+    private long boardId;
+    private String title;
+    private String body;
+}
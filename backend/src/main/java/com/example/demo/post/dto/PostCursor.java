@@ -0,0 +1,47 @@
+package com.example.demo.post.dto;
+
+import com.example.demo.common.pagination.CursorCodec;
+import com.example.demo.post.enums.PostSort;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 文章列表的 keyset cursor。
+ * LATEST 以 (createdAt, postId) 定位，HOT 以 (hotScore, postId) 定位，兩者皆為遞減排序。
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private final PostSort sort;
+    private final Instant createdAt;
+    private final Double hotScore;
+    private final long postId;
+
+    public static PostCursor after(PostSort sort, PostItem lastItem) {
+        return new PostCursor(sort, lastItem.getCreatedAt(), lastItem.getHotScore(), lastItem.getPostId());
+    }
+
+    public String encode() {
+        String key = sort == PostSort.HOT ? Double.toString(hotScore) : createdAt.toString();
+        return CursorCodec.encode(sort.name(), key, Long.toString(postId));
+    }
+
+    /**
+     * @throws IllegalArgumentException cursor 格式錯誤，或與目前的排序方式不一致
+     */
+    public static PostCursor decode(String cursor, PostSort expectedSort) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        PostSort sort = PostSort.valueOf(parts[0]);
+        if (sort != expectedSort) {
+            throw new IllegalArgumentException("Cursor sort mismatch");
+        }
+        long postId = Long.parseLong(parts[2]);
+        if (sort == PostSort.HOT) {
+            return new PostCursor(sort, null, Double.parseDouble(parts[1]), postId);
+        }
+        return new PostCursor(sort, Instant.parse(parts[1]), null, postId);
+    }
+}
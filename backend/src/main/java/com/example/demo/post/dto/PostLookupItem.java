@@ -0,0 +1,15 @@
+package com.example.demo.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostLookupItem {
+    private long postId;
+    // false：文章不存在或已刪除，此時 post 為 null
+    private boolean found;
+    private GetPostResponse post;
+}
@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 
@@ -16,11 +17,15 @@ import java.time.Instant;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+// 只更新有變動的欄位：改標題/內文時不會以載入時的舊值覆寫由 bulk UPDATE 維護的計數欄位
+@DynamicUpdate
 @Table(
     name = "posts",
     indexes = {
         @Index(name = "idx_posts_board_created", columnList = "board_id, created_at"),
-        @Index(name = "idx_posts_board_hot", columnList = "board_id, hot_score")
+        @Index(name = "idx_posts_board_hot", columnList = "board_id, hot_score"),
+        @Index(name = "idx_posts_hot", columnList = "hot_score"),
+        @Index(name = "idx_posts_created", columnList = "created_at")
     }
 )
 public class Post {
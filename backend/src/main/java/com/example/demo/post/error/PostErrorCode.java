@@ -13,7 +13,10 @@ public enum PostErrorCode implements ErrorCode {
     PAGE_SIZE_INVALID,
     SORT_INVALID,
     POST_NOT_FOUND,
-    NOT_POST_AUTHOR;
+    NOT_POST_AUTHOR,
+    CURSOR_INVALID,
+    INCLUDE_COMMENTS_INVALID,
+    IDS_INVALID;
 
 
 
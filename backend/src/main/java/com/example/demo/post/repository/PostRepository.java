@@ -1,10 +1,11 @@
 package com.example.demo.post.repository;
 
+import com.example.demo.post.dto.PostContentItem;
 import com.example.demo.post.dto.PostItem;
 import com.example.demo.post.entity.Post;
 import com.example.demo.post.enums.PostStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +13,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,16 +33,170 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "p.status, " +
             "p.createdAt) " +
             "FROM Post p WHERE p.board.boardId = :boardId AND p.status = :status")
-    Page<PostItem> findByBoardId(@Param("boardId") Long boardId, @Param("status") PostStatus status, Pageable pageable);
+    // 回傳 Slice：只多取一筆判斷 hasNext，不會額外發出 COUNT(*)；總數改由 boards.post_count 提供
+    Slice<PostItem> findByBoardId(@Param("boardId") Long boardId, @Param("status") PostStatus status, Pageable pageable);
+
+    // keyset 分頁 (LATEST)：從 cursor 之後接續，走 idx_posts_board_created，不需 OFFSET 也不需 COUNT
+    @Query("SELECT new com.example.demo.post.dto.PostItem(" +
+            "p.postId, " +
+            "p.author.userId, " +
+            "p.author.displayName, " +
+            "p.board.boardId, " +
+            "p.board.name, " +
+            "p.title, " +
+            "p.likeCount, " +
+            "p.hotScore, " +
+            "p.status, " +
+            "p.createdAt) " +
+            "FROM Post p WHERE p.board.boardId = :boardId AND p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostItem> findByBoardIdCreatedBefore(@Param("boardId") Long boardId,
+                                              @Param("status") PostStatus status,
+                                              @Param("createdAt") Instant createdAt,
+                                              @Param("postId") long postId,
+                                              Pageable pageable);
+
+    // keyset 分頁 (HOT)：從 cursor 之後接續，走 idx_posts_board_hot
+    @Query("SELECT new com.example.demo.post.dto.PostItem(" +
+            "p.postId, " +
+            "p.author.userId, " +
+            "p.author.displayName, " +
+            "p.board.boardId, " +
+            "p.board.name, " +
+            "p.title, " +
+            "p.likeCount, " +
+            "p.hotScore, " +
+            "p.status, " +
+            "p.createdAt) " +
+            "FROM Post p WHERE p.board.boardId = :boardId AND p.status = :status " +
+            "AND (p.hotScore < :hotScore OR (p.hotScore = :hotScore AND p.postId < :postId)) " +
+            "ORDER BY p.hotScore DESC, p.postId DESC")
+    List<PostItem> findByBoardIdHotScoreBelow(@Param("boardId") Long boardId,
+                                              @Param("status") PostStatus status,
+                                              @Param("hotScore") double hotScore,
+                                              @Param("postId") long postId,
+                                              Pageable pageable);
+
+    // 跨看板的第一頁 (未指定看板的首頁動態)，排序由 Pageable 指定，走 idx_posts_created / idx_posts_hot
+    @Query("SELECT new com.example.demo.post.dto.PostItem(" +
+            "p.postId, " +
+            "p.author.userId, " +
+            "p.author.displayName, " +
+            "p.board.boardId, " +
+            "p.board.name, " +
+            "p.title, " +
+            "p.likeCount, " +
+            "p.hotScore, " +
+            "p.status, " +
+            "p.createdAt) " +
+            "FROM Post p WHERE p.status = :status")
+    Slice<PostItem> findItemsByStatus(@Param("status") PostStatus status, Pageable pageable);
+
+    // 跨看板 keyset 分頁 (LATEST)，走 idx_posts_created
+    @Query("SELECT new com.example.demo.post.dto.PostItem(" +
+            "p.postId, " +
+            "p.author.userId, " +
+            "p.author.displayName, " +
+            "p.board.boardId, " +
+            "p.board.name, " +
+            "p.title, " +
+            "p.likeCount, " +
+            "p.hotScore, " +
+            "p.status, " +
+            "p.createdAt) " +
+            "FROM Post p WHERE p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostItem> findCreatedBefore(@Param("status") PostStatus status,
+                                     @Param("createdAt") Instant createdAt,
+                                     @Param("postId") long postId,
+                                     Pageable pageable);
+
+    // 跨看板 keyset 分頁 (HOT)，走 idx_posts_hot
+    @Query("SELECT new com.example.demo.post.dto.PostItem(" +
+            "p.postId, " +
+            "p.author.userId, " +
+            "p.author.displayName, " +
+            "p.board.boardId, " +
+            "p.board.name, " +
+            "p.title, " +
+            "p.likeCount, " +
+            "p.hotScore, " +
+            "p.status, " +
+            "p.createdAt) " +
+            "FROM Post p WHERE p.status = :status " +
+            "AND (p.hotScore < :hotScore OR (p.hotScore = :hotScore AND p.postId < :postId)) " +
+            "ORDER BY p.hotScore DESC, p.postId DESC")
+    List<PostItem> findHotScoreBelow(@Param("status") PostStatus status,
+                                     @Param("hotScore") double hotScore,
+                                     @Param("postId") long postId,
+                                     Pageable pageable);
+
+    // 依 ID 取得列表用的投影 (搜尋結果等已知 ID 的頁面)
+    @Query("SELECT new com.example.demo.post.dto.PostItem(" +
+            "p.postId, " +
+            "p.author.userId, " +
+            "p.author.displayName, " +
+            "p.board.boardId, " +
+            "p.board.name, " +
+            "p.title, " +
+            "p.likeCount, " +
+            "p.hotScore, " +
+            "p.status, " +
+            "p.createdAt) " +
+            "FROM Post p WHERE p.postId IN :postIds AND p.status = :status")
+    List<PostItem> findItemsByPostIdIn(@Param("postIds") Collection<Long> postIds, @Param("status") PostStatus status);
 
     @Modifying
     @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId AND p.status = :status")
     int incrementCommentCount(@Param("postId") long postId, @Param("status") PostStatus status);
 
+    // 條件式寫入：文章須為 ACTIVE 且由作者本人或管理員操作，一個語句同時完成檢查與寫入
+    // 回傳 0 代表文章不存在或沒有權限，由呼叫端再判斷是哪一種；不經過 dirty checking，updatedAt 需自行帶入
+    @Modifying
+    @Query("UPDATE Post p SET p.status = :newStatus, p.updatedAt = :now " +
+            "WHERE p.postId = :postId AND p.status = :status AND (p.author.userId = :userId OR :isAdmin = true)")
+    int updateStatusIfPermitted(@Param("postId") long postId,
+                                @Param("userId") long userId,
+                                @Param("isAdmin") boolean isAdmin,
+                                @Param("status") PostStatus status,
+                                @Param("newStatus") PostStatus newStatus,
+                                @Param("now") Instant now);
+
+    // 同上；title / body 為 null 時保留原值
+    @Modifying
+    @Query("UPDATE Post p SET p.title = COALESCE(:title, p.title), p.body = COALESCE(:body, p.body), p.updatedAt = :now " +
+            "WHERE p.postId = :postId AND p.status = :status AND (p.author.userId = :userId OR :isAdmin = true)")
+    int updateContentIfPermitted(@Param("postId") long postId,
+                                 @Param("userId") long userId,
+                                 @Param("isAdmin") boolean isAdmin,
+                                 @Param("status") PostStatus status,
+                                 @Param("title") String title,
+                                 @Param("body") String body,
+                                 @Param("now") Instant now);
+
+    @Query("SELECT new com.example.demo.post.dto.PostContentItem(p.postId, p.board.boardId, p.title, p.body) " +
+            "FROM Post p WHERE p.postId = :postId")
+    Optional<PostContentItem> findContentByPostId(@Param("postId") long postId);
+
+    // 只取看板 id (主鍵查詢，不讀取 body)
+    @Query("SELECT p.board.boardId FROM Post p WHERE p.postId = :postId")
+    Optional<Long> findBoardIdByPostId(@Param("postId") long postId);
+
     Optional<Post> findBasicByPostIdAndStatus(long postId, PostStatus status);
 
+    boolean existsByPostIdAndStatus(long postId, PostStatus status);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.postId = :postId AND p.status = :status")
+    Optional<Integer> findLikeCountByPostIdAndStatus(@Param("postId") long postId, @Param("status") PostStatus status);
+
     @EntityGraph(attributePaths = {"author", "board"})
     Optional<Post> findByPostIdAndStatus(long postId, PostStatus status);
 
+    // 批次查詢：一次 IN 查詢並 join 作者、看板，避免逐筆查詢
+    @EntityGraph(attributePaths = {"author", "board"})
+    List<Post> findByPostIdInAndStatus(Collection<Long> postIds, PostStatus status);
+
 }
 
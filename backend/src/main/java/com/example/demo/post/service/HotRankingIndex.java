@@ -0,0 +1,138 @@
+package com.example.demo.post.service;
+
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 每個看板 HOT 排序前 N 名的記憶體索引，讓最常被請求的前幾頁不需要查 MySQL。
+ * <p>
+ * 每個看板保存一份不可變、已排序的快照 (copy-on-write)：
+ * - 分數重算、發文後整個看板失效，下次讀取時重新載入
+ * - 刪文、改標題直接在快照上修改
+ * 每次變動都會遞增看板版本號，載入中途若版本改變就不寫回，避免舊資料覆蓋新狀態。
+ * 版本號的遞增與檢查都在 {@code rankings.compute} 中進行，與同一看板快照的替換是原子的。
+ */
+@Component
+public class HotRankingIndex {
+
+    // 與 PostService 的 HOT 排序一致 (hotScore DESC, postId DESC)
+    public static final Sort HOT_SORT = Sort.by(Sort.Order.desc("hotScore"), Sort.Order.desc("postId"));
+
+    private final PostRepository postRepository;
+    private final int capacity;
+
+    private final ConcurrentHashMap<Long, Ranking> rankings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public HotRankingIndex(PostRepository postRepository,
+                           @Value("${hot-ranking.capacity:200}") int capacity) {
+        this.postRepository = postRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 取得看板 HOT 排序中 [offset, offset + size) 的文章。
+     * 範圍超出索引保存的名次時回傳 empty，由呼叫端改查資料庫。
+     */
+    public Optional<List<PostItem>> page(long boardId, int offset, int size) {
+        if (offset >= capacity) {
+            return Optional.empty();
+        }
+
+        Ranking ranking = rankings.get(boardId);
+        if (ranking == null) {
+            ranking = load(boardId);
+        }
+
+        List<PostItem> items = ranking.items();
+        if (offset + size > items.size() && !ranking.complete()) {
+            return Optional.empty();
+        }
+        int from = Math.min(offset, items.size());
+        int to = Math.min(offset + size, items.size());
+        return Optional.of(items.subList(from, to));
+    }
+
+    // 分數重算或發文後呼叫：整個看板的名次可能都變了
+    public void invalidate(long boardId) {
+        update(boardId, ranking -> null);
+    }
+
+    public void invalidate(Collection<Long> boardIds) {
+        boardIds.forEach(this::invalidate);
+    }
+
+    // 全部文章分數重算 (backfill) 後呼叫
+    public void invalidateAll() {
+        // 載入前一定已登記版本號，逐一遞增即可涵蓋所有快照與載入中的看板
+        versions.keySet().forEach(this::invalidate);
+    }
+
+    // 刪文：從所在看板的快照中移除，並遞增版本號，載入中的快照不會寫回已刪除的文章
+    public void remove(long boardId, long postId) {
+        update(boardId, ranking -> ranking.without(postId));
+    }
+
+    // 改標題：替換快照中對應的項目
+    public void updateTitle(long boardId, long postId, String title) {
+        update(boardId, ranking -> ranking.withTitle(postId, title));
+    }
+
+    private Ranking load(long boardId) {
+        // 先登記版本號，讓 invalidateAll() 也能讓這次載入失效
+        long version = versions.computeIfAbsent(boardId, id -> 0L);
+
+        List<PostItem> items = postRepository
+                .findByBoardId(boardId, PostStatus.ACTIVE, PageRequest.of(0, capacity, HOT_SORT))
+                .getContent();
+        Ranking ranking = new Ranking(List.copyOf(items), items.size() < capacity);
+
+        // 載入期間若有變動就不寫回，下次讀取再重新載入
+        rankings.compute(boardId, (id, current) ->
+                current == null && versions.getOrDefault(id, 0L) == version ? ranking : current);
+        return ranking;
+    }
+
+    // 遞增版本號並修改快照 (沒有快照時不修改)，兩者在同一個 compute 中完成
+    private void update(long boardId, UnaryOperator<Ranking> change) {
+        rankings.compute(boardId, (id, current) -> {
+            versions.merge(id, 1L, Long::sum);
+            return current == null ? null : change.apply(current);
+        });
+    }
+
+    /**
+     * @param complete 看板的 ACTIVE 文章全部都在 items 內 (文章數少於 capacity)
+     */
+    private record Ranking(List<PostItem> items, boolean complete) {
+
+        Ranking without(long postId) {
+            if (items.stream().noneMatch(item -> item.getPostId() == postId)) {
+                return this;
+            }
+            return new Ranking(items.stream().filter(item -> item.getPostId() != postId).toList(), complete);
+        }
+
+        Ranking withTitle(long postId, String title) {
+            return new Ranking(items.stream().map(item -> {
+                if (item.getPostId() != postId) {
+                    return item;
+                }
+                return new PostItem(item.getPostId(), item.getAuthorId(), item.getAuthorName(), item.getBoardId(),
+                        item.getBoardName(), title, item.getLikeCount(), item.getHotScore(), item.getStatus(),
+                        item.getCreatedAt());
+            }).toList(), complete);
+        }
+    }
+}
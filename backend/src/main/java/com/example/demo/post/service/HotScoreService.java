@@ -0,0 +1,170 @@
+package com.example.demo.post.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 熱門分數 (posts.hot_score) 的背景計算。
+ * <p>
+ * 公式 (FSD 3.3)：{@code like_count * 2 + comment_count - hours_since_created * decay}，
+ * 其中 hours_since_created 以 decay window 為上限。
+ * 每一輪只重算三種文章：
+ * 1. 計數有變動的文章 (由 {@link #markDirty(long)} 標記)
+ * 2. 仍在 decay window 內、分數會隨時間下降的文章
+ * 3. 上一輪之後才離開 window 的文章，補上最終分數
+ * 超出 window 且計數沒變的文章分數不會再變，因此不必重算。
+ * 啟動後第一輪沒有上一輪的紀錄，改以主鍵範圍分批把 window 外所有文章設成最終分數 (backfill)，
+ * 補上既有資料與停機期間離開 window 的文章。
+ */
+@Slf4j
+@Service
+public class HotScoreService {
+
+    private static final String SELECT_COLUMNS = "SELECT post_id, board_id, like_count, comment_count, created_at FROM posts ";
+
+    private static final String UPDATE_SQL = "UPDATE posts SET hot_score = ? WHERE post_id = ?";
+
+    // window 外的最終分數 = like * 2 + comment - window * decay；分數已正確的列不寫入
+    private static final String BACKFILL_SQL = "UPDATE posts SET hot_score = like_count * 2 + comment_count - ? " +
+            "WHERE post_id > ? AND post_id <= ? AND created_at < ? AND status = 'ACTIVE' " +
+            "AND hot_score <> like_count * 2 + comment_count - ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final HotRankingIndex hotRankingIndex;
+    private final double decay;
+    private final long decayWindowHours;
+    private final int batchSize;
+
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    // 上一輪成功時的 window 起點；null 表示尚未 backfill (只由排程執行緒存取)
+    private Instant scoredWindowStart;
+
+    public HotScoreService(JdbcTemplate jdbcTemplate,
+                           HotRankingIndex hotRankingIndex,
+                           @Value("${hot-score.decay:1.0}") double decay,
+                           @Value("${hot-score.decay-window-hours:72}") long decayWindowHours,
+                           @Value("${hot-score.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.hotRankingIndex = hotRankingIndex;
+        this.decay = decay;
+        this.decayWindowHours = decayWindowHours;
+        this.batchSize = batchSize;
+    }
+
+    // 計數 (like_count / comment_count) 變動時呼叫，下一輪排程會重算該文章
+    public void markDirty(long postId) {
+        dirtyPostIds.add(postId);
+    }
+
+    public static double score(int likeCount, int commentCount, double hoursSinceCreated, double decay, long decayWindowHours) {
+        double decayedHours = Math.min(Math.max(hoursSinceCreated, 0), decayWindowHours);
+        return likeCount * 2.0 + commentCount - decayedHours * decay;
+    }
+
+    @Scheduled(fixedDelayString = "${hot-score.refresh-interval-ms:300000}",
+            initialDelayString = "${hot-score.initial-delay-ms:10000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        List<Long> dirty = drainDirty();
+
+        try {
+            Instant windowStart = now.minus(Duration.ofHours(decayWindowHours));
+            if (scoredWindowStart == null) {
+                backfill(windowStart);
+            }
+
+            Map<Long, PostCounters> candidates = new LinkedHashMap<>();
+
+            // 1. decay window 內的文章，以及上一輪之後離開 window 的文章 (走 idx_posts_created)
+            Instant scanFrom = scoredWindowStart == null || scoredWindowStart.isAfter(windowStart)
+                    ? windowStart : scoredWindowStart;
+            jdbcTemplate.query(SELECT_COLUMNS + "WHERE created_at >= ? AND status = 'ACTIVE'",
+                    COUNTERS_MAPPER, Timestamp.from(scanFrom))
+                    .forEach(row -> candidates.put(row.postId(), row));
+
+            // 2. window 外但計數有變動的文章
+            List<Long> outsideWindow = dirty.stream().filter(id -> !candidates.containsKey(id)).toList();
+            for (int from = 0; from < outsideWindow.size(); from += batchSize) {
+                List<Long> chunk = outsideWindow.subList(from, Math.min(from + batchSize, outsideWindow.size()));
+                namedJdbcTemplate.query(SELECT_COLUMNS + "WHERE post_id IN (:ids) AND status = 'ACTIVE'",
+                        Map.of("ids", chunk), COUNTERS_MAPPER)
+                        .forEach(row -> candidates.put(row.postId(), row));
+            }
+
+            List<Object[]> updates = new ArrayList<>(candidates.size());
+            Set<Long> touchedBoards = new HashSet<>();
+            for (PostCounters row : candidates.values()) {
+                touchedBoards.add(row.boardId());
+                double hours = Duration.between(row.createdAt(), now).toMillis() / 3_600_000.0;
+                updates.add(new Object[]{score(row.likeCount(), row.commentCount(), hours, decay, decayWindowHours), row.postId()});
+            }
+
+            // 分批送出 (MySQL 需在連線字串加上 rewriteBatchedStatements=true 才會合併成多值語句)
+            for (int from = 0; from < updates.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates.subList(from, Math.min(from + batchSize, updates.size())));
+            }
+
+            // 名次已變動，讓記憶體排行重新載入
+            hotRankingIndex.invalidate(touchedBoards);
+            scoredWindowStart = windowStart;
+
+            log.debug("Hot score refreshed: {} posts ({} dirty)", updates.size(), dirty.size());
+        } catch (RuntimeException e) {
+            // 失敗時把標記放回去，下一輪重試
+            dirtyPostIds.addAll(dirty);
+            log.warn("Hot score refresh failed, {} dirty posts will be retried", dirty.size(), e);
+        }
+    }
+
+    // 以主鍵範圍分批更新，每個語句只鎖住一小段
+    private void backfill(Instant windowStart) {
+        Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM posts", Long.class);
+        if (maxPostId == null) {
+            hotRankingIndex.invalidateAll();
+            return;
+        }
+        double finalDecay = decayWindowHours * decay;
+        Timestamp before = Timestamp.from(windowStart);
+        int updated = 0;
+        for (long from = 0; from < maxPostId; from += batchSize) {
+            updated += jdbcTemplate.update(BACKFILL_SQL, finalDecay, from, from + batchSize, before, finalDecay);
+        }
+        hotRankingIndex.invalidateAll();
+        log.info("Hot score backfilled: {} posts outside the decay window", updated);
+    }
+
+    private List<Long> drainDirty() {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> it = dirtyPostIds.iterator();
+        while (it.hasNext()) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    private record PostCounters(long postId, long boardId, int likeCount, int commentCount, Instant createdAt) {
+    }
+
+    private static final RowMapper<PostCounters> COUNTERS_MAPPER = (rs, rowNum) -> new PostCounters(
+            rs.getLong("post_id"),
+            rs.getLong("board_id"),
+            rs.getInt("like_count"),
+            rs.getInt("comment_count"),
+            rs.getTimestamp("created_at").toInstant()
+    );
+}
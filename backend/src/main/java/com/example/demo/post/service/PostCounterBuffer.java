@@ -0,0 +1,141 @@
+package com.example.demo.post.service;
+
+import com.example.demo.common.counter.StripedDeltaCounters;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * posts 計數欄位的 write-behind 緩衝。
+ * <p>
+ * 按讚、留言 (comment.buffered-count=true 時) 只在記憶體累加增量，排程每隔數百毫秒把同一篇文章的增量合併成一筆
+ * {@code UPDATE posts SET like_count = like_count + ?}，以 JDBC batch 送出；
+ * 熱門文章的一波點擊只會對該列加鎖一次，而不是每次點擊各鎖一次。
+ * 讚數與留言數的同一批寫回在同一個交易中，部分失敗時整批 rollback 後放回緩衝，不會重複累加已寫入的列。
+ * <p>
+ * 讀取計數的一方以 {@link #readConsistent(Supplier)} 讀資料庫再加上 {@link #pendingLikes(long)} / {@link #pendingComments(long)}；
+ * 讀取期間不會有寫回進行，同一份增量不會被漏算 (已取出但尚未寫入) 或重複計算 (已寫入但仍算在緩衝中)。
+ * <p>
+ * 尚未寫回的增量在程序異常終止時會遺失 (likes / comments 紀錄本身仍在)，正常關閉時會先寫回。
+ */
+@Slf4j
+@Component
+public class PostCounterBuffer {
+
+    private static final String LIKE_SQL = "UPDATE posts SET like_count = like_count + ? WHERE post_id = ?";
+    private static final String COMMENT_SQL = "UPDATE posts SET comment_count = comment_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate readTemplate;
+    private final HotScoreService hotScoreService;
+
+    private final StripedDeltaCounters likeDeltas = new StripedDeltaCounters();
+    private final StripedDeltaCounters commentDeltas = new StripedDeltaCounters();
+    // 讀取端共用讀鎖；寫回 (取出增量到 commit) 持有寫鎖
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public PostCounterBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             HotScoreService hotScoreService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.hotScoreService = hotScoreService;
+    }
+
+    public void addLikes(long postId, long delta) {
+        likeDeltas.add(postId, delta);
+    }
+
+    public void addComments(long postId, long delta) {
+        commentDeltas.add(postId, delta);
+    }
+
+    // 尚未寫回 posts.like_count 的增量，回應時加上才是最新的讚數
+    public long pendingLikes(long postId) {
+        return likeDeltas.pending(postId);
+    }
+
+    // 尚未寫回 posts.comment_count 的增量
+    public long pendingComments(long postId) {
+        return commentDeltas.pending(postId);
+    }
+
+    /**
+     * 在沒有寫回進行時執行 reader：reader 內讀到的資料庫計數與 pending 增量是一致的。
+     * 先取得連線 (已在 transaction 中則沿用) 再取讀鎖，與寫回相同順序，持有鎖的一方不會再等待連線。
+     */
+    public <T> T readConsistent(Supplier<T> reader) {
+        return readTemplate.execute(status -> {
+            flushLock.readLock().lock();
+            try {
+                return reader.get();
+            } finally {
+                flushLock.readLock().unlock();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${post-counter.flush-interval-ms:200}")
+    public void flush() {
+        if (likeDeltas.isEmpty() && commentDeltas.isEmpty()) {
+            return;
+        }
+        // 先開 transaction 取得連線再取寫鎖；commit 完成後才釋放，讀取端不會看到已取出但尚未 commit 的增量
+        TransactionStatus status = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        Map<Long, Long> likes = Map.of();
+        Map<Long, Long> comments = Map.of();
+        flushLock.writeLock().lock();
+        try {
+            likes = likeDeltas.drain();
+            comments = commentDeltas.drain();
+            writeBack(LIKE_SQL, likes);
+            writeBack(COMMENT_SQL, comments);
+            transactionManager.commit(status);
+        } catch (RuntimeException e) {
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
+            }
+            likeDeltas.restore(likes);
+            commentDeltas.restore(comments);
+            log.warn("post counter flush failed, {} like / {} comment deltas will be retried",
+                    likes.size(), comments.size(), e);
+            return;
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+        // 計數已變動，交給排程重算熱門分數
+        likes.keySet().forEach(hotScoreService::markDirty);
+        comments.keySet().forEach(hotScoreService::markDirty);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void writeBack(String sql, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 依 postId 排序，多個執行個體同時寫回時以相同順序加鎖，避免 deadlock
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        new TreeMap<>(deltas).forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
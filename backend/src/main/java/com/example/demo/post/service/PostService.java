@@ -4,35 +4,69 @@ import com.example.demo.post.dto.DeletePostResponse;
 import com.example.demo.post.dto.GetPostResponse;
 import com.example.demo.board.entity.Board;
 import com.example.demo.board.repository.BoardRepository;
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.comment.dto.CommentCursor;
+import com.example.demo.comment.dto.CommentItem;
+import com.example.demo.comment.enums.CommentStatus;
+import com.example.demo.comment.repository.CommentRepository;
 import com.example.demo.common.error.ErrorMessage;
 import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.transaction.AfterCommit;
 import com.example.demo.post.dto.*;
 import com.example.demo.post.entity.Post;
 import com.example.demo.post.enums.PostSort;
 import com.example.demo.post.enums.PostStatus;
 import com.example.demo.post.error.PostErrorCode;
 import com.example.demo.post.repository.PostRepository;
+import com.example.demo.search.service.PostSearchIndex;
 import com.example.demo.user.entity.User;
 import com.example.demo.user.entity.UserRole;
 import com.example.demo.user.repository.UserRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
 @Service
 public class PostService {
 
+    // 與 idx_posts_board_created 一致 (createdAt DESC, postId DESC)
+    public static final Sort LATEST_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"));
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
-
-    public PostService(PostRepository postRepository, UserRepository userRepository, BoardRepository boardRepository) {
+    private final HotRankingIndex hotRankingIndex;
+    private final PostViewCache postViewCache;
+    private final BoardCatalog boardCatalog;
+    private final CommentRepository commentRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCounterBuffer postCounterBuffer;
+
+    // GET /posts?ids= 一次最多查幾篇
+    @Value("${post.batch-get.max-size:100}")
+    private int maxBatchSize;
+
+    public PostService(PostRepository postRepository, UserRepository userRepository, BoardRepository boardRepository,
+                       HotRankingIndex hotRankingIndex, PostViewCache postViewCache, BoardCatalog boardCatalog,
+                       CommentRepository commentRepository, PostSearchIndex postSearchIndex,
+                       PostCounterBuffer postCounterBuffer) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.boardRepository = boardRepository;
+        this.boardCatalog = boardCatalog;
+        this.hotRankingIndex = hotRankingIndex;
+        this.postViewCache = postViewCache;
+        this.commentRepository = commentRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.postCounterBuffer = postCounterBuffer;
     }
 
     @Transactional
@@ -41,9 +75,11 @@ public class PostService {
             long userId,
             CreatePostRequest request) {
 
-        // 驗證看板是否存在
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.BOARD_NOT_FOUND));
+        // 驗證看板是否存在 (由記憶體快照判斷，不需載入 Board)
+        if (!boardCatalog.exists(boardId)) {
+            throw new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.BOARD_NOT_FOUND);
+        }
+        Board board = boardRepository.getReferenceById(boardId);
 
         // 驗證作者是否存在
         User author = userRepository.findById(userId)
@@ -59,6 +95,18 @@ public class PostService {
         // 保存 Post
         Post savedPost = postRepository.save(post);
 
+        // 維護看板文章數
+        boardRepository.adjustPostCount(boardId, 1);
+
+        // 新文章可能進入熱門排行，commit 後讓該看板的排行重新載入，並加入搜尋索引
+        long postId = savedPost.getPostId();
+        String title = savedPost.getTitle();
+        String body = savedPost.getBody();
+        AfterCommit.run(() -> {
+            hotRankingIndex.invalidate(boardId);
+            postSearchIndex.index(postId, boardId, title, body);
+        });
+
         // 返回 Response
         CreatePostResponse response = new CreatePostResponse();
         response.setPostId(savedPost.getPostId());
@@ -68,49 +116,160 @@ public class PostService {
     @Transactional(readOnly = true)
     public ListPostsResponse listPosts(long boardId, ListPostsRequest request) {
 
-        boolean boardExists = boardRepository.existsById(boardId);
-        if (!boardExists){
-            throw new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.BOARD_NOT_FOUND);
+        // 讀取看板文章數，同時作為看板存在檢查
+        long total = boardRepository.findPostCountByBoardId(boardId)
+                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.BOARD_NOT_FOUND));
+
+        int pageSize = request.getPageSize();
+        PostSort postSort = request.getSort();
+
+        // 有帶 cursor 時走 keyset 分頁，深頁成本與第一頁相同
+        if (request.getCursor() != null) {
+            return listPostsByCursor(boardId, postSort, pageSize, request.getCursor(), total);
         }
 
         // 1-based -> 0-based page index
         int page = Math.max(0, request.getPage() - 1);
-        int pageSize = request.getPageSize();
-        PostSort postSort = request.getSort();
 
+        // HOT 的前幾頁直接由記憶體排行提供，超出範圍才查資料庫
+        if (postSort == PostSort.HOT) {
+            int offset = page * pageSize;
+            List<PostItem> ranked = hotRankingIndex.page(boardId, offset, pageSize).orElse(null);
+            if (ranked != null) {
+                ListPostsResponse response = new ListPostsResponse();
+                response.setPage(page + 1);
+                response.setPageSize(pageSize);
+                response.setTotal(total);
+                response.setItems(ranked);
+                response.setNextCursor(offset + ranked.size() < total ? nextCursor(postSort, ranked) : null);
+                return response;
+            }
+        }
 
+        // 以 postId 作為同分/同時間的次要排序，讓分頁結果穩定且與 cursor 的定位方式一致
         Sort sort;
         switch (postSort) {
             case LATEST:
-                sort = Sort.by("createdAt").descending();
+                sort = LATEST_SORT;
                 break;
             case HOT:
-                sort = Sort.by("hotScore").descending();
+                sort = HotRankingIndex.HOT_SORT;
                 break;
             default:
-                sort = Sort.by("createdAt").descending();
+                sort = LATEST_SORT;
         }
 
 
         Pageable pageable = PageRequest.of(page, pageSize, sort);
 
         // 取得分頁內容
-        Page<PostItem> pageResult = postRepository.findByBoardId(boardId, PostStatus.ACTIVE, pageable);
+        Slice<PostItem> pageResult = postRepository.findByBoardId(boardId, PostStatus.ACTIVE, pageable);
 
         ListPostsResponse response = new ListPostsResponse();
         response.setPage(pageResult.getNumber() + 1);
         response.setPageSize(pageResult.getSize());
-        response.setTotal(pageResult.getTotalElements());
+        response.setTotal(total);
         response.setItems(pageResult.getContent());
+        response.setNextCursor(pageResult.hasNext() ? nextCursor(postSort, pageResult.getContent()) : null);
         return response;
     }
 
-    @Transactional(readOnly = true)
+    private ListPostsResponse listPostsByCursor(long boardId, PostSort postSort, int pageSize, String rawCursor, long total) {
+        PostCursor cursor;
+        try {
+            cursor = PostCursor.decode(rawCursor, postSort);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ApiException(ErrorMessage.VALIDATION_FAILED, PostErrorCode.CURSOR_INVALID);
+        }
+
+        // 多取一筆用來判斷是否還有下一頁
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostItem> rows = postSort == PostSort.HOT
+                ? postRepository.findByBoardIdHotScoreBelow(boardId, PostStatus.ACTIVE, cursor.getHotScore(), cursor.getPostId(), limit)
+                : postRepository.findByBoardIdCreatedBefore(boardId, PostStatus.ACTIVE, cursor.getCreatedAt(), cursor.getPostId(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostItem> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        ListPostsResponse response = new ListPostsResponse();
+        response.setPageSize(pageSize);
+        response.setTotal(total);
+        response.setItems(items);
+        response.setNextCursor(hasNext ? nextCursor(postSort, items) : null);
+        return response;
+    }
+
+    private String nextCursor(PostSort postSort, List<PostItem> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        return PostCursor.after(postSort, items.get(items.size() - 1)).encode();
+    }
+
     public GetPostResponse getPost(long postId) {
-        // 查詢狀態為 ACTIVE 的文章
-        Post post = postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)
-                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
+        return getPost(postId, 0);
+    }
 
+    /**
+     * @param includeComments 一併回傳最早的幾則留言 (0 表示不回傳)，讓詳情頁一次請求就能渲染
+     */
+    // 不開 transaction：快取命中時不需要取得資料庫連線，miss 時 repository 自己會開唯讀 transaction
+    public GetPostResponse getPost(long postId, int includeComments) {
+        GetPostResponse cached = postViewCache.get(postId, this::loadPost);
+        if (includeComments <= 0) {
+            return cached;
+        }
+
+        // 留言只用一次投影查詢取得，多取一筆判斷是否還有下一頁；快取中的物件是共用的，複製後再附上留言
+        List<CommentItem> rows = commentRepository.findByPostId(postId, CommentStatus.ACTIVE,
+                PageRequest.of(0, includeComments + 1));
+        boolean hasNext = rows.size() > includeComments;
+        List<CommentItem> comments = hasNext ? rows.subList(0, includeComments) : rows;
+
+        return cached.toBuilder()
+                .comments(comments)
+                .nextCommentsCursor(hasNext ? CommentCursor.after(comments.get(comments.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * 批次取得文章 (例如 feed 一次渲染多篇)，回傳順序與 postIds 相同；不存在或已刪除的文章標記為 found = false。
+     */
+    public GetPostsResponse getPosts(List<Long> postIds) {
+        if (postIds.isEmpty() || postIds.size() > maxBatchSize || postIds.stream().anyMatch(id -> id <= 0)) {
+            throw new ApiException(ErrorMessage.VALIDATION_FAILED, PostErrorCode.IDS_INVALID);
+        }
+
+        // 快取命中的不查資料庫，其餘以一次 IN 查詢載入
+        Map<Long, GetPostResponse> found = postViewCache.getAll(new LinkedHashSet<>(postIds), this::loadPosts);
+
+        GetPostsResponse response = new GetPostsResponse();
+        response.setItems(postIds.stream()
+                .map(id -> new PostLookupItem(id, found.containsKey(id), found.get(id)))
+                .toList());
+        return response;
+    }
+
+    private Map<Long, GetPostResponse> loadPosts(Set<Long> postIds) {
+        return postCounterBuffer.readConsistent(() -> {
+            Map<Long, GetPostResponse> loaded = new HashMap<>();
+            for (Post post : postRepository.findByPostIdInAndStatus(postIds, PostStatus.ACTIVE)) {
+                loaded.put(post.getPostId(), toGetPostResponse(post));
+            }
+            return loaded;
+        });
+    }
+
+    private GetPostResponse loadPost(long postId) {
+        return postCounterBuffer.readConsistent(() -> {
+            // 查詢狀態為 ACTIVE 的文章
+            Post post = postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)
+                    .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
+            return toGetPostResponse(post);
+        });
+    }
+
+    private GetPostResponse toGetPostResponse(Post post) {
         // 構建回應
         GetPostResponse response = new GetPostResponse();
         response.setPostId(post.getPostId());
@@ -120,29 +279,32 @@ public class PostService {
         response.setAuthorName(post.getAuthor().getDisplayName());
         response.setTitle(post.getTitle());
         response.setBody(post.getBody());
-        response.setLikeCount(post.getLikeCount());
-        response.setCommentCount(post.getCommentCount());
+        // 加上尚未寫回的增量；之後計數變動時由 LikeService / CommentService 讓快取失效
+        response.setLikeCount(post.getLikeCount() + (int) postCounterBuffer.pendingLikes(post.getPostId()));
+        response.setCommentCount(post.getCommentCount() + (int) postCounterBuffer.pendingComments(post.getPostId()));
         response.setCreatedAt(post.getCreatedAt());
         return response;
     }
 
     @Transactional
     public DeletePostResponse deletePost(long postId, User currentUser) {
-        // 查詢文章是否存在
-        Post post = postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)
-                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
-
-        //判斷是否為作者本人或管理員
-        boolean isAuthor = post.getAuthor().getUserId() == currentUser.getUserId();
+        // 存在、狀態與權限檢查併入同一個 UPDATE，不先載入文章
         boolean isAdmin = currentUser.getRole() == UserRole.ADMIN;
-
-        if (!isAuthor && !isAdmin) {
-            throw new ApiException(ErrorMessage.FORBIDDEN, PostErrorCode.NOT_POST_AUTHOR);
+        int deleted = postRepository.updateStatusIfPermitted(postId, currentUser.getUserId(), isAdmin,
+                PostStatus.ACTIVE, PostStatus.DELETED, Instant.now());
+        if (deleted == 0) {
+            throw writeRejected(postId);
         }
 
-        // 更新文章狀態為 DELETED
-        post.setStatus(PostStatus.DELETED);
-        postRepository.save(post);
+        // 維護看板文章數；看板 id 也用來只更新所在看板的 HOT 快照 (主鍵查詢，不讀取 body)
+        long boardId = postRepository.findBoardIdByPostId(postId)
+                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
+        boardRepository.adjustPostCount(boardId, -1);
+        AfterCommit.run(() -> {
+            hotRankingIndex.remove(boardId, postId);
+            postViewCache.invalidate(postId);
+            postSearchIndex.remove(postId);
+        });
 
         // 返回刪除成功的回應
         DeletePostResponse response = new DeletePostResponse();
@@ -153,34 +315,53 @@ public class PostService {
 
     @Transactional
     public UpdatePostResponse updatePost(long postId, User currentUser, UpdatePostRequest request) {
-        // 查詢文章是否存在
-        Post post = postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)
-                .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
-
-        //判斷是否為作者本人或管理員
-        boolean isAuthor = post.getAuthor().getUserId() == currentUser.getUserId();
+        // 存在、狀態與權限檢查併入同一個 UPDATE；未提供的欄位保留原值
         boolean isAdmin = currentUser.getRole() == UserRole.ADMIN;
-
-        if (!isAuthor && !isAdmin) {
-            throw new ApiException(ErrorMessage.FORBIDDEN, PostErrorCode.NOT_POST_AUTHOR);
+        int updated = postRepository.updateContentIfPermitted(postId, currentUser.getUserId(), isAdmin,
+                PostStatus.ACTIVE, request.getTitle(), request.getBody(), Instant.now());
+        if (updated == 0) {
+            throw writeRejected(postId);
         }
 
-        // 更新文章標題和內容（如果提供）
-        if (request.getTitle() != null) {
-            post.setTitle(request.getTitle());
+        // 回應與搜尋索引需要更新後的完整標題、內容
+        long boardId;
+        String title;
+        String body;
+        if (request.getTitle() != null && request.getBody() != null) {
+            // 兩者都有提供：直接使用請求內容，只查看板 id
+            boardId = postRepository.findBoardIdByPostId(postId)
+                    .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
+            title = request.getTitle();
+            body = request.getBody();
+        } else {
+            // 有欄位保留原值，讀回更新後的內容 (同一交易內讀得到剛寫入的值)
+            PostContentItem post = postRepository.findContentByPostId(postId)
+                    .orElseThrow(() -> new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND));
+            boardId = post.getBoardId();
+            title = post.getTitle();
+            body = post.getBody();
         }
-        if (request.getBody() != null) {
-            post.setBody(request.getBody());
+        AfterCommit.run(() -> {
+            postViewCache.invalidate(postId);
+            postSearchIndex.index(postId, boardId, title, body);
+        });
+        if (request.getTitle() != null) {
+            AfterCommit.run(() -> hotRankingIndex.updateTitle(boardId, postId, title));
         }
 
-        // 保存更新後的文章
-        postRepository.save(post);
-
         // 返回更新成功的回應
         UpdatePostResponse response = new UpdatePostResponse();
-        response.setPostId(post.getPostId());
-        response.setTitle(post.getTitle());
-        response.setBody(post.getBody());
+        response.setPostId(postId);
+        response.setTitle(title);
+        response.setBody(body);
         return response;
     }
+
+    // 條件式更新沒有更新到任何資料列：文章仍存在代表沒有權限，否則為不存在或已刪除
+    private ApiException writeRejected(long postId) {
+        if (postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)) {
+            return new ApiException(ErrorMessage.FORBIDDEN, PostErrorCode.NOT_POST_AUTHOR);
+        }
+        return new ApiException(ErrorMessage.NOT_FOUND, PostErrorCode.POST_NOT_FOUND);
+    }
 }
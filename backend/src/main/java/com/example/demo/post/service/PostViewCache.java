@@ -0,0 +1,63 @@
+package com.example.demo.post.service;
+
+import com.example.demo.common.cache.CoalescingLoader;
+import com.example.demo.post.dto.GetPostResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * GET /posts/{postId} 的 read-through 快取。
+ * <p>
+ * 同一個 postId 同時 miss 時只有一個執行緒會查資料庫，其他執行緒等待同一份結果 (request coalescing)；
+ * 載入不在快取內部的鎖中執行，見 {@link CoalescingLoader}。
+ * 快取中的物件視為不可變。讚數、留言數變動時直接讓該文章失效，下次讀取重新載入 (載入時會加上尚未寫回的增量)：
+ * 若改為調整快取中的計數，與同時進行的載入無法分辨該次變動是否已包含在載入結果中，可能重複或漏算。
+ */
+@Component
+public class PostViewCache {
+
+    private final AsyncCache<Long, GetPostResponse> cache;
+
+    public PostViewCache(ObjectProvider<MeterRegistry> meterRegistry,
+                         @Value("${post-cache.max-size:10000}") long maxSize,
+                         @Value("${post-cache.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "posts"));
+    }
+
+    // loader 拋出的例外 (例如文章不存在) 會直接傳給呼叫端，且不會寫入快取
+    public GetPostResponse get(long postId, LongFunction<GetPostResponse> loader) {
+        return CoalescingLoader.get(cache, postId, loader::apply);
+    }
+
+    /**
+     * 批次讀取：只把未命中的 id 交給 loader 一次查完。
+     * loader 回傳的 map 中沒有的 id (文章不存在) 不會寫入快取，也不會出現在結果中。
+     */
+    public Map<Long, GetPostResponse> getAll(Collection<Long> postIds,
+                                             Function<Set<Long>, Map<Long, GetPostResponse>> loader) {
+        return CoalescingLoader.getAll(cache, postIds, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    // 文章內容、讚數、留言數變更或刪除；載入中的項目也會移除，不會以載入結果寫回
+    public void invalidate(long postId) {
+        cache.synchronous().invalidate(postId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.search.controller;
+
+import com.example.demo.search.dto.SearchPostsRequest;
+import com.example.demo.search.dto.SearchPostsResponse;
+import com.example.demo.search.service.SearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/posts")
+    public ResponseEntity<SearchPostsResponse> searchPosts(@Valid @ModelAttribute SearchPostsRequest request) {
+        SearchPostsResponse response = searchService.searchPosts(request);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.search.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SearchPostsRequest {
+
+    @NotBlank(message = "KEYWORD_INVALID")
+    @Size(max = 50, message = "KEYWORD_INVALID")
+    private String q;
+
+    // 只搜尋此看板；未提供時搜尋全部看板
+    @Positive(message = "BOARD_ID_INVALID")
+    private Long boardId;
+
+    @Min(value = 1, message = "PAGE_SIZE_INVALID")
+    @Max(value = 100, message = "PAGE_SIZE_INVALID")
+    private Integer pageSize = 20;
+
+    // 上一頁回傳的 nextCursor
+    @Size(max = 200, message = "CURSOR_INVALID")
+    private String cursor;
+
+    /**
+     * 空白字串視為未提供 cursor
+     */
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor.trim();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.search.dto;
+
+import com.example.demo.post.dto.PostItem;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SearchPostsResponse {
+    private int pageSize;
+    // 依發文時間由新到舊
+    private List<PostItem> items;
+    // 下一頁的 cursor；已無下一頁時為 null
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.search.error;
+
+import com.example.demo.common.error.ErrorCode;
+
+public enum SearchErrorCode implements ErrorCode {
+    KEYWORD_INVALID,
+    BOARD_ID_INVALID,
+    PAGE_SIZE_INVALID,
+    CURSOR_INVALID,
+    BOARD_NOT_FOUND,
+    SEARCH_INDEX_NOT_READY;
+
+
+    @Override
+    public String code() {
+        return name();
+    }
+}
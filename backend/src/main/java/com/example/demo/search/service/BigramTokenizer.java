@@ -0,0 +1,84 @@
+package com.example.demo.search.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 搜尋用的斷詞：中日韓文字以相鄰兩字 (bigram) 切分，其他語言的字母與數字以連續字元為一個詞。
+ * <p>
+ * 例如「關於Java問題」會切成 關於、java、問題；「資料庫」會切成 資料、料庫。
+ * 單獨一個中文字 (前後都不是中文) 則保留為單字詞。
+ * 切分前先做 NFKC 正規化與轉小寫，全形英數字與半形視為相同。
+ * <p>
+ * 建立索引用 {@link #indexTerms(String)}：另外加上每個中文字的單字詞，
+ * 讓只有一個字的查詢 (例如「貓」) 也能找到含「貓咪」的文章；查詢仍用 {@link #tokenize(String)}，兩字以上只比對 bigram。
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 查詢用的詞
+    public static Set<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 建立索引用的詞：tokenize 的結果加上所有中文單字
+    public static Set<String> indexTerms(String text) {
+        return tokenize(text, true);
+    }
+
+    private static Set<String> tokenize(String text, boolean cjkUnigrams) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder();
+        int previousCjk = -1;
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isCjk(codePoint)) {
+                flushWord(word, terms);
+                if (previousCjk >= 0) {
+                    terms.add(new StringBuilder().appendCodePoint(previousCjk).appendCodePoint(codePoint).toString());
+                }
+                if (cjkUnigrams || (previousCjk < 0 && (i >= normalized.length() || !isCjk(normalized.codePointAt(i))))) {
+                    // 前後都不是中文的單字 (建立索引時則是每個字)
+                    terms.add(new String(Character.toChars(codePoint)));
+                }
+                previousCjk = codePoint;
+            } else {
+                previousCjk = -1;
+                if (Character.isLetterOrDigit(codePoint)) {
+                    word.appendCodePoint(codePoint);
+                } else {
+                    flushWord(word, terms);
+                }
+            }
+        }
+        flushWord(word, terms);
+        return terms;
+    }
+
+    private static void flushWord(StringBuilder word, Set<String> terms) {
+        if (!word.isEmpty()) {
+            terms.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
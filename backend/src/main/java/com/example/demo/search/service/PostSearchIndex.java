@@ -0,0 +1,294 @@
+package com.example.demo.search.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 文章標題與內文的反向索引 (term -> postId)，以 Lucene 存放。
+ * <p>
+ * 每篇文章的詞 (見 {@link BigramTokenizer#indexTerms(String)}) 各存成一個不斷詞的欄位，posting list 由 Lucene 壓縮後
+ * 放在磁碟上 (mmap)，不佔用 heap；文章數到百萬篇時 heap 上只有詞典索引與寫入緩衝。
+ * <p>
+ * 啟動後在背景執行緒從資料庫分批建立，建立完成前 {@link #isReady()} 為 false，由呼叫端回應 503。
+ * 之後由 PostService 在 commit 後逐篇新增、更新、移除；建立期間有變動的文章以增量更新為準，不會被建立流程讀到的舊資料覆蓋。
+ * <p>
+ * 搜尋是 near-real-time：寫入只交給 IndexWriter，由排程每隔 search.refresh-interval-ms (預設 1 秒) 重新開啟 searcher，
+ * 發文、改文後最多約 1 秒才搜得到。寫入的請求不需要等待 reopen，多筆寫入也會合併成同一個 segment。
+ * 索引不跨重啟保留，每次啟動都重新建立。
+ */
+@Slf4j
+@Component
+public class PostSearchIndex implements DisposableBean {
+
+    private static final String BUILD_SQL = "SELECT post_id, board_id, title, body FROM posts " +
+            "WHERE status = 'ACTIVE' AND post_id > ? ORDER BY post_id LIMIT ?";
+
+    private static final String ID_FIELD = "id";
+    private static final String POST_ID_FIELD = "postId";
+    private static final String BOARD_ID_FIELD = "boardId";
+    private static final String TERM_FIELD = "term";
+
+    private static final Sort NEWEST_FIRST = new Sort(new SortField(POST_ID_FIELD, SortField.Type.LONG, true));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int buildBatchSize;
+    private final Duration buildRetryDelay;
+
+    private final Path indexDir;
+    // 未指定 search.index-dir 時使用暫存目錄，關閉時刪除
+    private final boolean temporaryDir;
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 建立期間被增量更新過的文章
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock buildLock = new ReentrantLock();
+    // 只保護「建立中的標記 + 寫入」的先後，IndexWriter 本身可併發寫入；不用 synchronized，避免 virtual thread 釘住 carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean building;
+    private volatile boolean ready;
+
+    public PostSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${search.build-batch-size:1000}") int buildBatchSize,
+                           @Value("${search.index-dir:}") String indexDir,
+                           @Value("${search.build-retry-delay:PT30S}") Duration buildRetryDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buildBatchSize = buildBatchSize;
+        this.buildRetryDelay = buildRetryDelay;
+        try {
+            this.temporaryDir = indexDir == null || indexDir.isBlank();
+            this.indexDir = temporaryDir ? Files.createTempDirectory("post-search-index-") : Path.of(indexDir);
+            this.directory = FSDirectory.open(this.indexDir);
+            // 每次啟動都從資料庫重建，清掉上次留下的索引
+            this.writer = new IndexWriter(directory,
+                    new IndexWriterConfig().setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open post search index at " + indexDir, e);
+        }
+    }
+
+    // 不擋住啟動：在背景建立，失敗時隔一段時間重試
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread thread = new Thread(() -> {
+            while (!ready) {
+                try {
+                    build();
+                } catch (RuntimeException e) {
+                    log.error("Post search index build failed, retrying in {}", buildRetryDelay, e);
+                    try {
+                        Thread.sleep(buildRetryDelay.toMillis());
+                    } catch (InterruptedException interrupted) {
+                        return;
+                    }
+                }
+            }
+        }, "search-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void build() {
+        buildLock.lock();
+        try {
+            building = true;
+            try {
+                long lastPostId = 0;
+                int indexed = 0;
+                while (true) {
+                    List<IndexedPostRow> rows = jdbcTemplate.query(BUILD_SQL, (rs, rowNum) -> new IndexedPostRow(
+                            rs.getLong("post_id"),
+                            rs.getLong("board_id"),
+                            rs.getString("title"),
+                            rs.getString("body")
+                    ), lastPostId, buildBatchSize);
+                    for (IndexedPostRow row : rows) {
+                        indexFromBuild(row);
+                    }
+                    indexed += rows.size();
+                    if (rows.size() < buildBatchSize) {
+                        break;
+                    }
+                    lastPostId = rows.get(rows.size() - 1).postId();
+                }
+                searcherManager.maybeRefreshBlocking();
+                ready = true;
+                log.info("Post search index built: {} posts", indexed);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                building = false;
+                changedDuringBuild.clear();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    // 讓已寫入的變動可以被搜尋到；reopen 進行中時略過，下一輪再試
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to refresh post search index", e);
+        }
+    }
+
+    // 第一次建立完成前，搜尋結果不完整
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 新增或更新文章 (commit 後呼叫)
+    public void index(long postId, long boardId, String title, String body) {
+        writeLock.lock();
+        try {
+            if (building) {
+                changedDuringBuild.add(postId);
+            }
+            apply(postId, boardId, title, body);
+        } catch (IOException e) {
+            // 文章已 commit，不讓索引錯誤變成請求失敗
+            log.error("Failed to index post {}", postId, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 刪除文章 (commit 後呼叫)
+    public void remove(long postId) {
+        writeLock.lock();
+        try {
+            if (building) {
+                changedDuringBuild.add(postId);
+            }
+            writer.deleteDocuments(idTerm(postId));
+        } catch (IOException e) {
+            log.error("Failed to remove post {} from search index", postId, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 同時包含所有 terms 的文章 ID，依 postId 由新到舊排序。
+     *
+     * @param boardId      只回傳此看板的文章；null 表示不限看板
+     * @param beforePostId 只回傳 postId 小於此值的文章 (keyset 分頁)
+     */
+    public List<Long> search(Collection<String> terms, Long boardId, long beforePostId, int limit) {
+        if (terms.isEmpty() || beforePostId == Long.MIN_VALUE) {
+            return List.of();
+        }
+
+        // 只需過濾與排序，不計算相關度分數
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            query.add(new TermQuery(new Term(TERM_FIELD, term)), BooleanClause.Occur.FILTER);
+        }
+        if (boardId != null) {
+            query.add(LongPoint.newExactQuery(BOARD_ID_FIELD, boardId), BooleanClause.Occur.FILTER);
+        }
+        query.add(LongPoint.newRangeQuery(POST_ID_FIELD, Long.MIN_VALUE, beforePostId - 1), BooleanClause.Occur.FILTER);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs docs = searcher.search(query.build(), limit, NEWEST_FIRST);
+                List<Long> result = new ArrayList<>(docs.scoreDocs.length);
+                for (ScoreDoc doc : docs.scoreDocs) {
+                    result.add((Long) ((FieldDoc) doc).fields[0]);
+                }
+                return result;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        IOUtils.close(searcherManager, writer, directory);
+        if (temporaryDir) {
+            IOUtils.rm(indexDir);
+        }
+    }
+
+    private void indexFromBuild(IndexedPostRow row) throws IOException {
+        writeLock.lock();
+        try {
+            if (changedDuringBuild.contains(row.postId())) {
+                return;
+            }
+            apply(row.postId(), row.boardId(), row.title(), row.body());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(long postId, long boardId, String title, String body) throws IOException {
+        // 標題與內文分開斷詞，避免跨欄位組出不存在的 bigram
+        Set<String> terms = BigramTokenizer.indexTerms(title);
+        terms.addAll(BigramTokenizer.indexTerms(body));
+
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, Long.toString(postId), Field.Store.NO));
+        document.add(new LongPoint(POST_ID_FIELD, postId));
+        document.add(new NumericDocValuesField(POST_ID_FIELD, postId));
+        document.add(new LongPoint(BOARD_ID_FIELD, boardId));
+        for (String term : terms) {
+            document.add(new StringField(TERM_FIELD, term, Field.Store.NO));
+        }
+        writer.updateDocument(idTerm(postId), document);
+    }
+
+    private static Term idTerm(long postId) {
+        return new Term(ID_FIELD, Long.toString(postId));
+    }
+
+    private record IndexedPostRow(long postId, long boardId, String title, String body) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.search.service;
+
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.pagination.CursorCodec;
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import com.example.demo.search.dto.SearchPostsRequest;
+import com.example.demo.search.dto.SearchPostsResponse;
+import com.example.demo.search.error.SearchErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final BoardCatalog boardCatalog;
+
+    public SearchPostsResponse searchPosts(SearchPostsRequest request) {
+        Set<String> terms = BigramTokenizer.tokenize(request.getQ());
+        if (terms.isEmpty()) {
+            // 只有標點符號等無法斷詞的內容
+            throw new ApiException(ErrorMessage.VALIDATION_FAILED, SearchErrorCode.KEYWORD_INVALID);
+        }
+
+        Long boardId = request.getBoardId();
+        if (boardId != null && !boardCatalog.exists(boardId)) {
+            throw new ApiException(ErrorMessage.NOT_FOUND, SearchErrorCode.BOARD_NOT_FOUND);
+        }
+
+        long beforePostId = Long.MAX_VALUE;
+        if (request.getCursor() != null) {
+            try {
+                beforePostId = Long.parseLong(CursorCodec.decode(request.getCursor(), 1)[0]);
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(ErrorMessage.VALIDATION_FAILED, SearchErrorCode.CURSOR_INVALID);
+            }
+        }
+
+        // 啟動後索引仍在背景建立，結果不完整
+        if (!postSearchIndex.isReady()) {
+            throw new ApiException(ErrorMessage.SERVICE_UNAVAILABLE, SearchErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+
+        // 多取一筆用來判斷是否還有下一頁
+        int pageSize = request.getPageSize();
+        List<Long> matched = postSearchIndex.search(terms, boardId, beforePostId, pageSize + 1);
+        boolean hasNext = matched.size() > pageSize;
+        List<Long> pageIds = hasNext ? matched.subList(0, pageSize) : matched;
+
+        // 只查這一頁的文章，並依索引的順序排列 (commit 前後短暫不一致而查不到的直接略過)
+        Map<Long, PostItem> found = pageIds.isEmpty() ? Map.of()
+                : postRepository.findItemsByPostIdIn(pageIds, PostStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(PostItem::getPostId, Function.identity()));
+
+        SearchPostsResponse response = new SearchPostsResponse();
+        response.setPageSize(pageSize);
+        response.setItems(pageIds.stream().map(found::get).filter(Objects::nonNull).toList());
+        response.setNextCursor(hasNext ? CursorCodec.encode(Long.toString(pageIds.get(pageIds.size() - 1))) : null);
+        return response;
+    }
+}
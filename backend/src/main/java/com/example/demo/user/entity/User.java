@@ -1,6 +1,7 @@
 package com.example.demo.user.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.Locale;
        uniqueConstraints = {
            @UniqueConstraint(name = "uq_users_email",columnNames = {"email"})
        })
+@EntityListeners(UserChangeListener.class)
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,6 +47,12 @@ public class User implements UserDetails {
     @Column(name = "created_at")
     private Instant createdAt;
 
+    // 載入時的 email / 密碼 / 角色，供 UserChangeListener 判斷是否變動
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    UserChangeListener.UserCredentials loadedCredentials;
+
     @PrePersist
     void prePersist() {
         if (this.createdAt == null) {
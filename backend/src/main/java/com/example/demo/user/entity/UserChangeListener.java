@@ -0,0 +1,43 @@
+package com.example.demo.user.entity;
+
+import com.example.demo.user.event.UserCredentialsChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 比對載入時與更新後的 email / 密碼 / 角色，有變動就發出 {@link UserCredentialsChangedEvent}，
+ * 讓使用者快取與已簽發的 Token 跟著失效。
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    @PostPersist
+    void snapshot(User user) {
+        user.loadedCredentials = UserCredentials.of(user);
+    }
+
+    @PostUpdate
+    void afterUpdate(User user) {
+        UserCredentials before = user.loadedCredentials;
+        UserCredentials after = UserCredentials.of(user);
+        if (before != null && !before.equals(after)) {
+            eventPublisher.publishEvent(new UserCredentialsChangedEvent(user.getUserId(), before.email()));
+        }
+        user.loadedCredentials = after;
+    }
+
+    record UserCredentials(String email, String passwordHash, UserRole role) {
+
+        static UserCredentials of(User user) {
+            return new UserCredentials(user.getEmail(), user.getPasswordHash(), user.getRole());
+        }
+    }
+}
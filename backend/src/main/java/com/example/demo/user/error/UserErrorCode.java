@@ -9,7 +9,8 @@ public enum UserErrorCode implements ErrorCode {
     PASSWORD_INVALID,
     CONFIRM_PASSWORD_INVALID,
     AUTHENTICATION_FAILED,
-    EMAIL_ALREADY_EXISTS;
+    EMAIL_ALREADY_EXISTS,
+    AUTH_BUSY;
 
     @Override
     public String code() {
@@ -0,0 +1,9 @@
+package com.example.demo.user.event;
+
+/**
+ * 使用者的 email、密碼或角色被更新時發出 (見 UserChangeListener)。
+ *
+ * @param previousEmail 更新前的 email，用來清除以舊 email 為 key 的快取
+ */
+public record UserCredentialsChangedEvent(long userId, String previousEmail) {
+}
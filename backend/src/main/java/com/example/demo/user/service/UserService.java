@@ -2,6 +2,7 @@ package com.example.demo.user.service;
 
 import com.example.demo.common.error.ErrorMessage;
 import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.security.BoundedPasswordEncoder.PasswordHashingRejectedException;
 import com.example.demo.common.security.JwtService;
 import com.example.demo.user.dto.LoginRequest;
 import com.example.demo.user.dto.LoginResponse;
@@ -16,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -35,7 +35,7 @@ public class UserService {
     @Autowired
     private JwtService jwtService;
 
-    @Transactional
+    // 不包在交易內：save() 本身即為單一交易，避免雜湊密碼期間佔住 DB 連線
     public RegisterUserResponse registerUser(RegisterUserRequest registerUserRequest) {
 
         String password = registerUserRequest.getPassword();
@@ -53,7 +53,7 @@ public class UserService {
         User user = new User();
         user.setDisplayName(registerUserRequest.getName());
         user.setEmail(email);
-        user.setPasswordHash(passwordEncoder.encode(password));
+        user.setPasswordHash(hashPassword(password));
         user.setRole(UserRole.USER);
         user.setCreatedAt(Instant.now());
 
@@ -75,7 +75,7 @@ public class UserService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ApiException(ErrorMessage.UNAUTHORIZED, UserErrorCode.AUTHENTICATION_FAILED));
 
-        boolean ok = passwordEncoder.matches(password, user.getPasswordHash());
+        boolean ok = matchesPassword(password, user.getPasswordHash());
         if (!ok) {
             throw new ApiException(ErrorMessage.UNAUTHORIZED, UserErrorCode.AUTHENTICATION_FAILED);
         }
@@ -99,4 +99,21 @@ public class UserService {
         return response;
     }
 
+    // 雜湊執行緒池飽和時回 429，讓用戶端稍後重試
+    private String hashPassword(String password) {
+        try {
+            return passwordEncoder.encode(password);
+        } catch (PasswordHashingRejectedException e) {
+            throw new ApiException(ErrorMessage.TOO_MANY_REQUESTS, UserErrorCode.AUTH_BUSY);
+        }
+    }
+
+    private boolean matchesPassword(String password, String passwordHash) {
+        try {
+            return passwordEncoder.matches(password, passwordHash);
+        } catch (PasswordHashingRejectedException e) {
+            throw new ApiException(ErrorMessage.TOO_MANY_REQUESTS, UserErrorCode.AUTH_BUSY);
+        }
+    }
+
 }
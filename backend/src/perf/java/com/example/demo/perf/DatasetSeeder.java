@@ -0,0 +1,129 @@
+package com.example.demo.perf;
+
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.search.service.PostSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 產生基準與壓測用的資料集：看板、使用者、文章、留言，直接以 JDBC 批次寫入 Liquibase 建好的 schema。
+ * <p>
+ * 寫入後重新計算 boards.post_count，並重新載入看板快照與搜尋索引，狀態與經由 API 建立的資料一致。
+ * 固定的亂數種子讓每次產生的資料集相同，方便前後比較。
+ */
+@Slf4j
+public final class DatasetSeeder {
+
+    // 所有種子使用者共用的密碼 (符合註冊規則：8-12 字元、含字母與數字)
+    public static final String PASSWORD = "abc12345";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final Duration POST_AGE = Duration.ofDays(7);
+
+    private DatasetSeeder() {
+    }
+
+    /**
+     * @param commentsPerPost 每篇文章的留言數
+     */
+    public record Dataset(int boards, int users, int posts, int commentsPerPost) {
+    }
+
+    // 寫入後各表的 id 範圍 (含頭尾)；空表時為 0..-1
+    public record SeededIds(long firstBoardId, long lastBoardId,
+                            long firstUserId, long lastUserId,
+                            long firstPostId, long lastPostId) {
+    }
+
+    public static String email(int userIndex) {
+        return "seed-user-" + userIndex + "@example.com";
+    }
+
+    public static SeededIds seed(ApplicationContext context, Dataset dataset) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        SplittableRandom random = new SplittableRandom(42);
+        Instant now = Instant.now();
+        long started = System.nanoTime();
+
+        // BCrypt 很慢，只雜湊一次後共用
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        long firstUserId = nextId(jdbcTemplate, "users", "user_id");
+        batchInsert(jdbcTemplate, "INSERT INTO users (email, password_hash, display_name, role, created_at) " +
+                "VALUES (?, ?, ?, 'USER', ?)", dataset.users(), i -> new Object[]{
+                email(i), passwordHash, "user" + i, Timestamp.from(now)});
+
+        long firstBoardId = nextId(jdbcTemplate, "boards", "board_id");
+        batchInsert(jdbcTemplate, "INSERT INTO boards (name, description, created_at) VALUES (?, ?, ?)",
+                dataset.boards(), i -> new Object[]{
+                        String.format("看板%04d", i), "種子資料看板 " + i, Timestamp.from(now)});
+
+        long firstPostId = nextId(jdbcTemplate, "posts", "post_id");
+        batchInsert(jdbcTemplate, "INSERT INTO posts (board_id, author_id, title, body, like_count, comment_count, " +
+                "hot_score, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'ACTIVE', ?, ?)",
+                dataset.posts(), i -> {
+                    Timestamp createdAt = Timestamp.from(now.minusMillis(random.nextLong(POST_AGE.toMillis())));
+                    int likeCount = random.nextInt(100);
+                    return new Object[]{
+                            firstBoardId + random.nextInt(dataset.boards()),
+                            firstUserId + random.nextInt(dataset.users()),
+                            "文章標題 " + i, "文章內容 " + i + "，由種子資料產生。",
+                            likeCount, dataset.commentsPerPost(), likeCount * 2.0 + dataset.commentsPerPost(),
+                            createdAt, createdAt};
+                });
+
+        int comments = dataset.posts() * dataset.commentsPerPost();
+        batchInsert(jdbcTemplate, "INSERT INTO comments (post_id, author_id, body, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'ACTIVE', ?, ?)", comments, i -> {
+                    Timestamp createdAt = Timestamp.from(now.minusMillis(random.nextLong(POST_AGE.toMillis())));
+                    return new Object[]{
+                            firstPostId + (i - 1) / dataset.commentsPerPost(),
+                            firstUserId + random.nextInt(dataset.users()),
+                            "留言 " + i, createdAt, createdAt};
+                });
+
+        jdbcTemplate.update("UPDATE boards b SET post_count = " +
+                "(SELECT COUNT(*) FROM posts p WHERE p.board_id = b.board_id AND p.status = 'ACTIVE')");
+
+        context.getBean(BoardCatalog.class).refresh();
+        context.getBean(PostSearchIndex.class).build();
+
+        log.info("Seeded {} boards, {} users, {} posts, {} comments in {} ms", dataset.boards(), dataset.users(),
+                dataset.posts(), comments, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return new SeededIds(firstBoardId, firstBoardId + dataset.boards() - 1,
+                firstUserId, firstUserId + dataset.users() - 1,
+                firstPostId, firstPostId + dataset.posts() - 1);
+    }
+
+    // 假設 AUTO_INCREMENT 沒有跳號 (新建立的資料庫)，且寫入期間沒有其他人新增資料
+    private static long nextId(JdbcTemplate jdbcTemplate, String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private static void batchInsert(JdbcTemplate jdbcTemplate, String sql, int count, RowFactory rowFactory) {
+        List<Object[]> rows = new ArrayList<>(Math.min(count, BATCH_SIZE));
+        for (int i = 1; i <= count; i++) {
+            rows.add(rowFactory.row(i));
+            if (rows.size() == BATCH_SIZE || i == count) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        // index 從 1 開始
+        Object[] row(int index);
+    }
+}
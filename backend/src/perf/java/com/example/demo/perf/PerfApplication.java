@@ -0,0 +1,45 @@
+package com.example.demo.perf;
+
+import com.example.demo.DemoApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 在目前的 JVM 內啟動完整的應用程式，供 JMH 基準與壓測使用。
+ * <p>
+ * 預設使用 H2 (MySQL 相容模式)，schema 由 Liquibase 建立，與正式環境相同；
+ * args 中的 --spring.datasource.url 等設定優先於預設值，可改連本機 MySQL。
+ */
+public final class PerfApplication {
+
+    private static final String JWT_SECRET_KEY = "dGhpcy1pcy1hLXRlc3Qtc2VjcmV0LWtleS1mb3ItaHMyNTYtc2lnbmluZw==";
+
+    // 量測期間不跑背景排程 (熱門分數重算、看板快照重新載入)
+    public static final String[] WITHOUT_SCHEDULED_JOBS = {
+            "--hot-score.initial-delay-ms=86400000",
+            "--board-catalog.refresh-interval-ms=86400000"
+    };
+
+    private PerfApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName, String... args) {
+        // devtools 會在 main thread 另開 classloader 重新啟動，這裡不需要
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.username=sa",
+                        "jwt.secret-key=" + JWT_SECRET_KEY,
+                        "jwt.expiration=3600000",
+                        "server.port=0",
+                        "logging.level.root=WARN")
+                .run(args);
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.demo;
+
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.common.metrics.StatementRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 各端點送出的 SQL 數量 (H2)。查詢數改變時這裡會失敗：確認是刻意的變更後再更新期望值。
+ * <p>
+ * 每個測試使用新的看板、使用者與文章，讓快取狀態固定；登入後的第一個請求已在 setUp 中載入使用者快取。
+ */
+@SpringBootTest(properties = {
+        "jwt.secret-key=dGhpcy1pcy1hLXRlc3Qtc2VjcmV0LWtleS1mb3ItaHMyNTYtc2lnbmluZw==",
+        "jwt.expiration=3600000",
+        "spring.datasource.url=jdbc:h2:mem:query-count;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "hot-score.initial-delay-ms=3600000",
+        "query-guard.fail-on-violation=true",
+        // 只比對查詢數；BCrypt 在慢速 CI 上可能超過預設的 1 秒
+        "query-guard.slow-request=PT1M"
+})
+@AutoConfigureMockMvc
+public class EndpointQueryCountTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BoardCatalog boardCatalog;
+
+    private long boardId;
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = SEQUENCE.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO boards (name, description, created_at) VALUES (?, ?, ?)",
+                "board-" + n, "query count", Timestamp.from(Instant.now()));
+        boardId = jdbcTemplate.queryForObject("SELECT MAX(board_id) FROM boards", Long.class);
+        boardCatalog.refresh();
+
+        email = "user-" + n + "@example.com";
+        token = registerAndLogin(email);
+        mockMvc.perform(get("/boards").header("Authorization", "Bearer " + token)).andExpect(status().isOk());
+    }
+
+    @Test
+    void listBoards() throws Exception {
+        // 看板列表由記憶體快照提供
+        assertStatements(0, get("/boards"), status().isOk());
+    }
+
+    @Test
+    void listPosts() throws Exception {
+        // == Given ==
+        String otherToken = registerAndLogin("other-" + SEQUENCE.incrementAndGet() + "@example.com");
+        for (int i = 0; i < 3; i++) {
+            createPost(token);
+            createPost(otherToken);
+        }
+
+        // == When & Then ==
+        // boards.post_count (總數) 與一頁文章；作者、看板名稱在同一個投影查詢中取得，文章數不影響查詢數
+        assertStatements(2, get("/boards/{boardId}/posts", boardId), status().isOk());
+    }
+
+    @Test
+    void listFeed_AllBoards() throws Exception {
+        // == Given ==
+        for (int i = 0; i < 3; i++) {
+            createPost(token);
+        }
+
+        // == When & Then ==
+        // 未指定看板：跨看板單一 keyset 查詢，與看板數量無關
+        assertStatements(1, get("/feed"), status().isOk());
+        assertStatements(1, get("/feed").param("sort", "HOT"), status().isOk());
+    }
+
+    @Test
+    void getPost_CacheMiss() throws Exception {
+        long postId = createPost(token);
+
+        // 文章、作者、看板以一個 join 查詢取得
+        assertStatements(1, get("/posts/{postId}", postId), status().isOk());
+    }
+
+    @Test
+    void getPost_CacheHit() throws Exception {
+        // == Given ==
+        long postId = createPost(token);
+        mockMvc.perform(get("/posts/{postId}", postId)).andExpect(status().isOk());
+
+        // == When & Then ==
+        assertStatements(0, get("/posts/{postId}", postId), status().isOk());
+    }
+
+    @Test
+    void createPost() throws Exception {
+        // 作者 (回應需要 displayName)、INSERT posts、boards.post_count
+        assertStatements(3, post("/boards/{boardId}/posts", boardId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "title", "body", "body"))), status().isCreated());
+    }
+
+    @Test
+    void updatePost() throws Exception {
+        long postId = createPost(token);
+
+        // 條件式 UPDATE posts (含權限檢查)、讀回標題與內容
+        assertStatements(2, patch("/posts/{postId}", postId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "new title"))), status().isOk());
+    }
+
+    @Test
+    void deletePost() throws Exception {
+        long postId = createPost(token);
+
+        // 條件式 UPDATE posts.status (含權限檢查)、以主鍵讀 board_id、boards.post_count
+        assertStatements(3, delete("/posts/{postId}", postId)
+                .header("Authorization", "Bearer " + token), status().isOk());
+    }
+
+    @Test
+    void deletePost_NotPostAuthor() throws Exception {
+        // == Given ==
+        long postId = createPost(token);
+        String otherToken = registerAndLogin("other-" + SEQUENCE.incrementAndGet() + "@example.com");
+        mockMvc.perform(get("/boards").header("Authorization", "Bearer " + otherToken)).andExpect(status().isOk());
+
+        // == When & Then ==
+        // 條件式 UPDATE 沒有更新到資料列、確認文章仍存在 -> 403
+        assertStatements(2, delete("/posts/{postId}", postId)
+                .header("Authorization", "Bearer " + otherToken), status().isForbidden());
+    }
+
+    @Test
+    void createComment() throws Exception {
+        long postId = createPost(token);
+
+        // comment_count + 1 (同時確認文章存在)、文章參照、INSERT comments
+        assertStatements(3, post("/posts/{postId}/comments", postId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("body", "comment"))), status().isCreated());
+    }
+
+    @Test
+    void register() throws Exception {
+        // email 是否已存在、INSERT users
+        assertStatements(2, post("/users/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("name", "new user", "email", "new-" + SEQUENCE.incrementAndGet() + "@example.com",
+                        "password", "abc12345", "confirmPassword", "abc12345"))), status().isCreated());
+    }
+
+    @Test
+    void login() throws Exception {
+        assertStatements(1, post("/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("email", email, "password", "abc12345"))), status().isOk());
+    }
+
+    private void assertStatements(int expected, MockHttpServletRequestBuilder request, ResultMatcher expectedStatus)
+            throws Exception {
+        try (StatementRecorder.Recording recording = StatementRecorder.start()) {
+            mockMvc.perform(request).andExpect(expectedStatus);
+            assertEquals(expected, recording.count(), () -> "Executed statements:\n" + String.join("\n", recording.statements()));
+        }
+    }
+
+    private String registerAndLogin(String email) throws Exception {
+        mockMvc.perform(post("/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("name", "tester", "email", email,
+                                "password", "abc12345", "confirmPassword", "abc12345"))))
+                .andExpect(status().isCreated());
+        String body = mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("email", email, "password", "abc12345"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+
+    private long createPost(String token) throws Exception {
+        String body = mockMvc.perform(post("/boards/{boardId}/posts", boardId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("title", "title", "body", "body"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+        return response.get("postId").asLong();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
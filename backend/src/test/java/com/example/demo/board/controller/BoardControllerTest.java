@@ -3,6 +3,8 @@ package com.example.demo.board.controller;
 import com.example.demo.board.dto.BoardItem;
 import com.example.demo.board.dto.ListBoardsRequest;
 import com.example.demo.board.dto.ListBoardsResponse;
+import com.example.demo.board.dto.SuggestBoardsRequest;
+import com.example.demo.board.dto.SuggestBoardsResponse;
 import com.example.demo.board.error.BoardErrorCode;
 import com.example.demo.board.service.BoardService;
 import com.example.demo.common.error.ErrorMessage;
@@ -11,6 +13,7 @@ import com.example.demo.common.exception.GlobalExceptionHandler;
 import com.example.demo.common.security.JwtAuthenticationEntryPoint;
 import com.example.demo.common.security.JwtAuthenticationFilter;
 import com.example.demo.common.security.JwtService;
+import com.example.demo.common.security.TokenRevocationStore;
 import com.example.demo.common.security.SecurityConfig;
 import com.example.demo.post.dto.*;
 import com.example.demo.post.enums.PostSort;
@@ -78,6 +81,9 @@ public class BoardControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationStore tokenRevocationStore;
+
     private static BoardItem createBoardItem(Long boardId, String name, String description){
         BoardItem item = new BoardItem();
         item.setBoardId(boardId);
@@ -196,6 +202,44 @@ public class BoardControllerTest {
                 .andExpect(jsonPath("$.code").value(BoardErrorCode.KEYWORD_INVALID.name()));
     }
 
+    @Test
+    void suggestBoards_Success_NoTokenRequired() throws Exception {
+        // == Given ==
+        SuggestBoardsResponse mockResponse = new SuggestBoardsResponse();
+        mockResponse.setItems(List.of(createBoardItem(2L, "軟體版", "聊軟體相關的知識")));
+        given(boardService.suggestBoards(any())).willReturn(mockResponse);
+
+        // == When ==
+        mockMvc.perform(get("/boards/suggest")
+                        .param("prefix", " 軟 "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].boardId").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("軟體版"));
+
+        // == Then ==
+        ArgumentCaptor<SuggestBoardsRequest> captor = ArgumentCaptor.forClass(SuggestBoardsRequest.class);
+        verify(boardService).suggestBoards(captor.capture());
+        assertEquals("軟", captor.getValue().getPrefix());
+        assertEquals(10, captor.getValue().getLimit());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'', 10, KEYWORD_INVALID",
+            "'   ', 10, KEYWORD_INVALID",
+            "軟, 0, LIMIT_INVALID",
+            "軟, 21, LIMIT_INVALID"
+    })
+    void suggestBoards_ParamInvalid_Return400(String prefix, String limit, String expectedErrorCode) throws Exception {
+        // == When & Then ==
+        mockMvc.perform(get("/boards/suggest")
+                        .param("prefix", prefix)
+                        .param("limit", limit))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.VALIDATION_FAILED.name()))
+                .andExpect(jsonPath("$.code").value(expectedErrorCode));
+    }
+
     @Test
     void createPost_Success() throws Exception {
         // == Given ==
@@ -1,18 +1,18 @@
 package com.example.demo.board.service;
 
+import com.example.demo.board.dto.BoardItem;
 import com.example.demo.board.dto.ListBoardsRequest;
 import com.example.demo.board.dto.ListBoardsResponse;
+import com.example.demo.board.dto.SuggestBoardsRequest;
+import com.example.demo.board.dto.SuggestBoardsResponse;
 import com.example.demo.board.entity.Board;
 import com.example.demo.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.util.List;
@@ -27,9 +27,14 @@ public class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
-    @InjectMocks
     private BoardService boardService;
 
+    @BeforeEach
+    void setUp() {
+        // 使用真的 BoardCatalog，只 mock 最底層的 repository
+        boardService = new BoardService(new BoardCatalog(boardRepository));
+    }
+
     @Test
     void listBoards_Success() {
         // == Given ==
@@ -39,10 +44,8 @@ public class BoardServiceTest {
 
         Board board1 = new Board(1L,"八卦版","想聊什麼就聊什麼", Instant.now());
         Board board2 = new Board(2L,"軟體版","聊軟體相關的知識", Instant.now());
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<Board> mockPage = new PageImpl<>(List.of(board1,board2),pageable,2);
 
-        when(boardRepository.findAll(any(Pageable.class))).thenReturn(mockPage);
+        when(boardRepository.findAll(any(Sort.class))).thenReturn(List.of(board1, board2));
 
         // == When ==
         ListBoardsResponse response = boardService.listBoards(listBoardsRequest);
@@ -53,8 +56,7 @@ public class BoardServiceTest {
         assertEquals(response.getPageSize(),20);
         assertEquals(response.getTotal(),2);
 
-        verify(boardRepository, times(1)).findAll(any(Pageable.class));
-        verify(boardRepository, times(0)).findByNameContainingIgnoreCase(anyString(), any(Pageable.class));
+        verify(boardRepository, times(1)).findAll(any(Sort.class));
 
     }
 
@@ -66,23 +68,17 @@ public class BoardServiceTest {
         request.setPageSize(10);
         request.setKeyword("八卦"); // 設定關鍵字
 
-        Board board = new Board(1L,"八卦版","想聊什麼就聊什麼", Instant.now());
-        Page<Board> mockPage = new PageImpl<>(List.of(board));
-
-        // 設定 Mock 行為：當呼叫 findByNameContaining 時...
-        when(boardRepository.findByNameContainingIgnoreCase(eq("八卦"), any(Pageable.class)))
-                .thenReturn(mockPage);
+        Board board1 = new Board(1L,"八卦版","想聊什麼就聊什麼", Instant.now());
+        Board board2 = new Board(2L,"軟體版","聊軟體相關的知識", Instant.now());
+        when(boardRepository.findAll(any(Sort.class))).thenReturn(List.of(board1, board2));
 
         // == When ==
         ListBoardsResponse response = boardService.listBoards(request);
 
         // == Then ==
         assertEquals(response.getItems().size(), 1);
-
-        // 關鍵驗證：確認 Service 呼叫了 findByNameContaining
-        verify(boardRepository, times(1)).findByNameContainingIgnoreCase(eq("八卦"), any(Pageable.class));
-        // 確認沒有呼叫 findAll
-        verify(boardRepository, times(0)).findAll(any(Pageable.class));
+        assertEquals(response.getItems().get(0).getName(), "八卦版");
+        assertEquals(response.getTotal(), 1);
     }
 
     @Test
@@ -93,20 +89,90 @@ public class BoardServiceTest {
         request.setPageSize(20);
         request.setKeyword("其他關鍵字"); // 設定關鍵字
 
-        // 設定 Mock 行為：當呼叫 findByNameContaining 時...
-        when(boardRepository.findByNameContainingIgnoreCase(eq("其他關鍵字"), any(Pageable.class)))
-                .thenReturn(Page.empty());
+        Board board = new Board(1L,"八卦版","想聊什麼就聊什麼", Instant.now());
+        when(boardRepository.findAll(any(Sort.class))).thenReturn(List.of(board));
 
         // == When ==
         ListBoardsResponse response = boardService.listBoards(request);
 
         // == Then ==
         assertEquals(response.getItems().size(), 0);
+        assertEquals(response.getTotal(), 0);
+    }
+
+    @Test
+    void listBoards_SecondPage_SlicedInMemory() {
+        // == Given ==
+        ListBoardsRequest request = new ListBoardsRequest();
+        request.setPage(2);
+        request.setPageSize(1);
+
+        Board board1 = new Board(1L,"八卦版","想聊什麼就聊什麼", Instant.now());
+        Board board2 = new Board(2L,"軟體版","聊軟體相關的知識", Instant.now());
+        when(boardRepository.findAll(any(Sort.class))).thenReturn(List.of(board1, board2));
+
+        // == When ==
+        ListBoardsResponse first = boardService.listBoards(request);
+        ListBoardsResponse second = boardService.listBoards(request);
+
+        // == Then ==
+        assertEquals(first.getItems().size(), 1);
+        assertEquals(first.getItems().get(0).getBoardId(), 2L);
+        assertEquals(first.getTotal(), 2);
+        assertEquals(second.getItems().get(0).getBoardId(), 2L);
+
+        // == Verify ==
+        // 快照只載入一次
+        verify(boardRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void listBoards_WithKeyword_MatchesSubstringNotScatteredBigrams() {
+        // == Given ==
+        ListBoardsRequest request = new ListBoardsRequest();
+        request.setPage(1);
+        request.setPageSize(20);
+        request.setKeyword("軟體");
+
+        Board board1 = new Board(1L,"軟體版","", Instant.now());
+        Board board2 = new Board(2L,"硬體軟體討論","", Instant.now());
+        // 含有「軟」「體」但不相鄰
+        Board board3 = new Board(3L,"軟硬體","", Instant.now());
+        Board board4 = new Board(4L,"Java","", Instant.now());
+        when(boardRepository.findAll(any(Sort.class))).thenReturn(List.of(board1, board2, board3, board4));
+
+        // == When ==
+        ListBoardsResponse response = boardService.listBoards(request);
+        request.setKeyword("JA");
+        ListBoardsResponse latin = boardService.listBoards(request);
+        request.setKeyword("版");
+        ListBoardsResponse single = boardService.listBoards(request);
 
-        // 關鍵驗證：確認 Service 呼叫了 findByNameContaining
-        verify(boardRepository, times(1)).findByNameContainingIgnoreCase(eq("其他關鍵字"), any(Pageable.class));
-        // 確認沒有呼叫 findAll
-        verify(boardRepository, times(0)).findAll(any(Pageable.class));
+        // == Then ==
+        assertEquals(List.of(1L, 2L), response.getItems().stream().map(BoardItem::getBoardId).toList());
+        assertEquals(2, response.getTotal());
+        assertEquals(List.of(4L), latin.getItems().stream().map(BoardItem::getBoardId).toList());
+        assertEquals(List.of(1L), single.getItems().stream().map(BoardItem::getBoardId).toList());
     }
 
+    @Test
+    void suggestBoards_PrefixOrderedByNameWithLimit() {
+        // == Given ==
+        Board board1 = new Board(1L,"Java","", Instant.now());
+        Board board2 = new Board(2L,"javascript","", Instant.now());
+        Board board3 = new Board(3L,"JAVA新手","", Instant.now());
+        Board board4 = new Board(4L,"Kotlin","", Instant.now());
+        when(boardRepository.findAll(any(Sort.class))).thenReturn(List.of(board1, board2, board3, board4));
+
+        SuggestBoardsRequest request = new SuggestBoardsRequest();
+        request.setPrefix("jav");
+        request.setLimit(2);
+
+        // == When ==
+        SuggestBoardsResponse response = boardService.suggestBoards(request);
+
+        // == Then ==
+        // 名稱轉小寫後依字元排序：java、javascript、java新手 (Kotlin 不符合前綴)
+        assertEquals(List.of(1L, 2L), response.getItems().stream().map(BoardItem::getBoardId).toList());
+    }
 }
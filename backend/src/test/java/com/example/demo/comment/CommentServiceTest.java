@@ -1,8 +1,8 @@
 package com.example.demo.comment;
 
-import com.example.demo.comment.dto.CreateCommentRequest;
-import com.example.demo.comment.dto.CreateCommentResponse;
+import com.example.demo.comment.dto.*;
 import com.example.demo.comment.entity.Comment;
+import com.example.demo.comment.enums.CommentStatus;
 import com.example.demo.comment.error.CommentErrorCode;
 import com.example.demo.comment.repository.CommentRepository;
 import com.example.demo.comment.service.CommentService;
@@ -11,6 +11,9 @@ import com.example.demo.common.exception.ApiException;
 import com.example.demo.post.entity.Post;
 import com.example.demo.post.enums.PostStatus;
 import com.example.demo.post.repository.PostRepository;
+import com.example.demo.post.service.HotScoreService;
+import com.example.demo.post.service.PostCounterBuffer;
+import com.example.demo.post.service.PostViewCache;
 import com.example.demo.user.entity.User;
 import com.example.demo.user.entity.UserRole;
 import org.junit.jupiter.api.Test;
@@ -21,11 +24,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +46,13 @@ public class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private HotScoreService hotScoreService;
+    @Mock
+    private PostViewCache postViewCache;
+    @Mock
+    private PostCounterBuffer postCounterBuffer;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -84,6 +99,8 @@ public class CommentServiceTest {
         assertEquals(comment.getPost(), mockPost);
         assertEquals(comment.getAuthor(), mockCurrentUser);
         assertEquals(comment.getBody(), mockRequest.getBody());
+        verify(hotScoreService).markDirty(postId);
+        verify(postViewCache).invalidate(postId);
 
     }
 
@@ -118,6 +135,155 @@ public class CommentServiceTest {
         verify(postRepository, times(1)).incrementCommentCount(eq(postId), eq(PostStatus.ACTIVE));
         verify(postRepository, never()).findBasicByPostIdAndStatus(postId, PostStatus.ACTIVE);
         verify(commentRepository, never()).save(any());
+        verify(hotScoreService, never()).markDirty(anyLong());
+
+    }
+
+    @Test
+    void createComment_BufferedCount_NoRowLockingUpdate() {
+        // == Given ==
+        ReflectionTestUtils.setField(commentService, "bufferedCount", true);
+        long postId = 1L;
+
+        User mockCurrentUser = new User();
+        mockCurrentUser.setUserId(1L);
+
+        CreateCommentRequest mockRequest = new CreateCommentRequest();
+        mockRequest.setBody("這是一則留言");
+
+        Post postReference = new Post();
+        postReference.setPostId(postId);
+
+        Comment savedComment = new Comment();
+        savedComment.setCommentId(5L);
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(true);
+        given(postRepository.getReferenceById(postId)).willReturn(postReference);
+        given(commentRepository.save(any(Comment.class))).willReturn(savedComment);
+
+        // == When ==
+        CreateCommentResponse response = commentService.createComment(postId, mockCurrentUser, mockRequest);
+
+        // == Then ==
+        assertEquals(5L, response.getCommentId());
+
+        // == Verify ==
+        verify(postRepository, never()).incrementCommentCount(anyLong(), any(PostStatus.class));
+        verify(postCounterBuffer).addComments(postId, 1);
+        verify(postViewCache).invalidate(postId);
+    }
+
+    @Test
+    void createComment_BufferedCount_PostNotFound_ThrowException() {
+        // == Given ==
+        ReflectionTestUtils.setField(commentService, "bufferedCount", true);
+        long postId = 99L;
+
+        CreateCommentRequest mockRequest = new CreateCommentRequest();
+        mockRequest.setBody("這是一則留言");
+
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(false);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class,
+                () -> commentService.createComment(postId, new User(), mockRequest));
+
+        // == Then ==
+        assertEquals(ErrorMessage.NOT_FOUND, exception.getErrorMessage());
+        assertEquals(CommentErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+
+        // == Verify ==
+        verify(commentRepository, never()).save(any());
+        verify(postCounterBuffer, never()).addComments(anyLong(), anyLong());
+    }
 
+    @Test
+    void listComments_FirstPage_ReturnsNextCursor() {
+        // == Given ==
+        long postId = 1L;
+        ListCommentsRequest request = new ListCommentsRequest();
+        request.setPageSize(2);
+
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        List<CommentItem> rows = List.of(
+                new CommentItem(1L, 2L, "Amy", "第一則", now),
+                new CommentItem(2L, 3L, "Ben", "第二則", now),
+                new CommentItem(3L, 2L, "Amy", "第三則", now.plusSeconds(1)));
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(true);
+        given(commentRepository.findByPostId(eq(postId), eq(CommentStatus.ACTIVE), any(Pageable.class))).willReturn(rows);
+
+        // == When ==
+        ListCommentsResponse response = commentService.listComments(postId, request);
+
+        // == Then ==
+        assertEquals(2, response.getPageSize());
+        assertEquals(List.of(1L, 2L), response.getItems().stream().map(CommentItem::getCommentId).toList());
+        CommentCursor next = CommentCursor.decode(response.getNextCursor());
+        assertEquals(now, next.getCreatedAt());
+        assertEquals(2L, next.getCommentId());
+
+        // == Verify ==
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(commentRepository).findByPostId(eq(postId), eq(CommentStatus.ACTIVE), pageableCaptor.capture());
+        assertEquals(3, pageableCaptor.getValue().getPageSize());
+    }
+
+    @Test
+    void listComments_WithCursor_LastPage() {
+        // == Given ==
+        long postId = 1L;
+        Instant createdAt = Instant.parse("2026-01-01T12:00:00Z");
+        ListCommentsRequest request = new ListCommentsRequest();
+        request.setPageSize(2);
+        request.setCursor(new CommentCursor(createdAt, 2L).encode());
+
+        List<CommentItem> rows = List.of(new CommentItem(3L, 2L, "Amy", "第三則", createdAt.plusSeconds(1)));
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(true);
+        given(commentRepository.findByPostIdCreatedAfter(eq(postId), eq(CommentStatus.ACTIVE), eq(createdAt), eq(2L),
+                any(Pageable.class))).willReturn(rows);
+
+        // == When ==
+        ListCommentsResponse response = commentService.listComments(postId, request);
+
+        // == Then ==
+        assertEquals(1, response.getItems().size());
+        assertNull(response.getNextCursor());
+
+        // == Verify ==
+        verify(commentRepository, never()).findByPostId(anyLong(), any(), any());
+    }
+
+    @Test
+    void listComments_InvalidCursor_ThrowException() {
+        // == Given ==
+        long postId = 1L;
+        ListCommentsRequest request = new ListCommentsRequest();
+        request.setCursor("not-a-cursor");
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(true);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class,
+                () -> commentService.listComments(postId, request));
+
+        // == Then ==
+        assertEquals(ErrorMessage.VALIDATION_FAILED, exception.getErrorMessage());
+        assertEquals(CommentErrorCode.CURSOR_INVALID, exception.getErrorCode());
+    }
+
+    @Test
+    void listComments_PostNotFound_ThrowException() {
+        // == Given ==
+        long postId = 99L;
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(false);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class,
+                () -> commentService.listComments(postId, new ListCommentsRequest()));
+
+        // == Then ==
+        assertEquals(ErrorMessage.NOT_FOUND, exception.getErrorMessage());
+        assertEquals(CommentErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+
+        // == Verify ==
+        verifyNoInteractions(commentRepository);
     }
 }
@@ -0,0 +1,171 @@
+package com.example.demo.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoalescingLoaderTest {
+
+    private final AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    void get_LoadsOnCallerThreadAndCaches() {
+        // == Given ==
+        AtomicReference<Thread> loaderThread = new AtomicReference<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // == When ==
+        String first = CoalescingLoader.get(cache, 1L, id -> {
+            loaderThread.set(Thread.currentThread());
+            loads.incrementAndGet();
+            return "post-" + id;
+        });
+        String second = CoalescingLoader.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            return "reloaded";
+        });
+
+        // == Then ==
+        assertEquals("post-1", first);
+        assertEquals("post-1", second);
+        assertEquals(1, loads.get());
+        assertSame(Thread.currentThread(), loaderThread.get());
+    }
+
+    @Test
+    void get_ConcurrentMiss_LoadsOnce() throws Exception {
+        // == Given ==
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> CoalescingLoader.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "post-1";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // == When ==
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> CoalescingLoader.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            return "duplicate";
+        }));
+        release.countDown();
+
+        // == Then ==
+        assertEquals("post-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("post-1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_LoaderThrows_ExceptionPropagatedAndNotCached() {
+        // == When & Then ==
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> CoalescingLoader.get(cache, 1L, id -> {
+                    throw new IllegalStateException("not found");
+                }));
+        assertEquals("not found", exception.getMessage());
+
+        // == Verify ==
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("post-1", CoalescingLoader.get(cache, 1L, id -> "post-" + id));
+    }
+
+    @Test
+    void get_ConcurrentMissLoaderThrows_WaiterGetsOriginalException() throws Exception {
+        // == Given ==
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> CoalescingLoader.get(cache, 1L, id -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("not found");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> shared = cache.getIfPresent(1L);
+
+        AtomicReference<Throwable> waiterError = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                CoalescingLoader.get(cache, 1L, id -> "duplicate");
+            } catch (Throwable e) {
+                waiterError.set(e);
+            }
+        });
+        waiter.start();
+        // 等到 waiter 停在同一個 future 上
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        // == When ==
+        release.countDown();
+        waiter.join(5000);
+
+        // == Then ==
+        assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, waiterError.get());
+        assertEquals("not found", waiterError.get().getMessage());
+        assertNull(cache.getIfPresent(1L));
+        // 以 null 正常完成，Caffeine 不會記錄 WARN
+        assertFalse(shared.isCompletedExceptionally());
+    }
+
+    @Test
+    void getAll_LoaderThrows_ExceptionPropagatedAndNotCached() {
+        // == When & Then ==
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> CoalescingLoader.getAll(cache, List.of(1L, 2L), missing -> {
+                    throw new IllegalStateException("database down");
+                }));
+        assertEquals("database down", exception.getMessage());
+
+        // == Verify ==
+        assertNull(cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertEquals("post-1", CoalescingLoader.get(cache, 1L, id -> "post-" + id));
+    }
+
+    @Test
+    void getAll_LoadsOnlyMissingKeys() {
+        // == Given ==
+        CoalescingLoader.get(cache, 1L, id -> "post-1");
+        AtomicReference<Thread> loaderThread = new AtomicReference<>();
+
+        // == When ==
+        Map<Long, String> result = CoalescingLoader.getAll(cache, List.of(1L, 2L, 3L), missing -> {
+            loaderThread.set(Thread.currentThread());
+            assertEquals(Set.of(2L, 3L), missing);
+            // 3 不存在
+            return Map.of(2L, "post-2");
+        });
+
+        // == Then ==
+        assertEquals(Map.of(1L, "post-1", 2L, "post-2"), result);
+        assertSame(Thread.currentThread(), loaderThread.get());
+        assertNull(cache.getIfPresent(3L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.common.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedDeltaCountersTest {
+
+    @Test
+    void drain_ReturnsNonZeroDeltasAndResets() {
+        // == Given ==
+        StripedDeltaCounters counters = new StripedDeltaCounters();
+        counters.add(1L, 3);
+        counters.add(1L, -1);
+        counters.add(2L, 1);
+        counters.add(2L, -1);
+
+        // == When ==
+        Map<Long, Long> drained = counters.drain();
+
+        // == Then ==
+        assertEquals(Map.of(1L, 2L), drained);
+        assertEquals(0, counters.pending(1L));
+        assertTrue(counters.drain().isEmpty());
+    }
+
+    @Test
+    void concurrentAddsAndDrains_NoDeltaLost() throws Exception {
+        // == Given ==
+        StripedDeltaCounters counters = new StripedDeltaCounters();
+        AtomicLong flushed = new AtomicLong();
+        int threads = 8;
+        int addsPerThread = 20_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < addsPerThread; i++) {
+                    counters.add(i % 4, 1);
+                }
+            });
+        }
+        // 一邊累加一邊 drain (也會觸發閒置 counter 的回收)
+        pool.submit(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                counters.drain().values().forEach(flushed::addAndGet);
+            }
+        });
+
+        // == When ==
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        counters.drain().values().forEach(flushed::addAndGet);
+
+        // == Then ==
+        assertEquals((long) threads * addsPerThread, flushed.get());
+    }
+}
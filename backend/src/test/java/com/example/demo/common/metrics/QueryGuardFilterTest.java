@@ -0,0 +1,94 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryGuardFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @Test
+    void doFilter_WithinLimit_CountRecorded() throws Exception {
+        // == Given ==
+        QueryGuardFilter filter = new QueryGuardFilter(meterRegistry, 3, Duration.ofSeconds(10), true);
+
+        // == When ==
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select p1_0.post_id from posts p1_0 where p1_0.post_id=?");
+            inspector.inspect("select u1_0.user_id from users u1_0 where u1_0.user_id=?");
+        });
+
+        // == Then ==
+        assertEquals(2, meterRegistry.get(QueryGuardFilter.METRIC_NAME).summary().totalAmount());
+        assertEquals(1, meterRegistry.get(QueryGuardFilter.METRIC_NAME).summary().count());
+    }
+
+    @Test
+    void doFilter_TooManyStatements_FailsWithRouteAndGroupedSql() {
+        // == Given ==
+        QueryGuardFilter filter = new QueryGuardFilter(meterRegistry, 3, Duration.ofSeconds(10), true);
+        MockHttpServletRequest request = request();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/posts/{postId}/comments");
+
+        // == When ==
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    inspector.inspect("select c1_0.comment_id from comments c1_0 where c1_0.post_id=?");
+                    for (int i = 0; i < 4; i++) {
+                        inspector.inspect("select u1_0.user_id from users u1_0 where u1_0.user_id=?");
+                    }
+                }));
+
+        // == Then ==
+        assertTrue(exception.getMessage().startsWith("GET /posts/{postId}/comments (none) executed 5 statements"));
+        assertTrue(exception.getMessage().contains("4x select u1_0.user_id from users u1_0 where u1_0.user_id=?"));
+        assertEquals(5, meterRegistry.get(QueryGuardFilter.METRIC_NAME).summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_ViolationWithoutFailFlag_OnlyLogged() throws Exception {
+        // == Given ==
+        QueryGuardFilter filter = new QueryGuardFilter(meterRegistry, 0, Duration.ofSeconds(10), false);
+
+        // == When ==
+        filter.doFilter(request(), new MockHttpServletResponse(),
+                (req, res) -> inspector.inspect("select b1_0.board_id from boards b1_0"));
+
+        // == Then ==
+        assertEquals(1, meterRegistry.get(QueryGuardFilter.METRIC_NAME).summary().totalAmount());
+    }
+
+    @Test
+    void recording_Nested_OuterSeesInnerStatements() {
+        // == Given ==
+        StatementRecorder.Recording outer = StatementRecorder.start();
+        inspector.inspect("select 1");
+
+        // == When ==
+        try (StatementRecorder.Recording inner = StatementRecorder.start()) {
+            inspector.inspect("select 2");
+            assertEquals(1, inner.count());
+        }
+        inspector.inspect("select 3");
+        outer.close();
+        inspector.inspect("select 4");
+
+        // == Then ==
+        assertEquals(3, outer.count());
+        assertEquals(List.of("select 1", "select 2", "select 3"), outer.statements());
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/posts/1/comments");
+    }
+}
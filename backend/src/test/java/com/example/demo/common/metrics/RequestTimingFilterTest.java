@@ -0,0 +1,100 @@
+package com.example.demo.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestTimingFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestTimingFilter filter = new RequestTimingFilter(meterRegistry);
+
+    @Test
+    void doFilter_PhasesRecordedPerHandler() throws Exception {
+        // == Given ==
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("getPost"));
+
+        // == When ==
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestTimings.add(RequestPhase.SECURITY, TimeUnit.MILLISECONDS.toNanos(1));
+            RequestTimings.add(RequestPhase.REPOSITORY, TimeUnit.MILLISECONDS.toNanos(3));
+            RequestTimings.add(RequestPhase.REPOSITORY, TimeUnit.MILLISECONDS.toNanos(4));
+            RequestTimings.add(RequestPhase.SERIALIZATION, TimeUnit.MILLISECONDS.toNanos(2));
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        });
+
+        // == Then ==
+        assertEquals(7, phaseTimer("SampleController#getPost", "repository").totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(2, phaseTimer("SampleController#getPost", "serialization").totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, phaseTimer("SampleController#getPost", "security").totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, phaseTimer("SampleController#getPost", "repository").count());
+    }
+
+    @Test
+    void doFilter_NestedRepositoryTime_ExcludedFromSecurity() throws Exception {
+        // == Given ==
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+        long[] spanNanos = new long[1];
+
+        // == When ==
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            long started = System.nanoTime();
+            RequestTimings.Span span = RequestTimings.begin(RequestPhase.SECURITY);
+            // 驗證期間查詢使用者
+            RequestTimings.add(RequestPhase.REPOSITORY, TimeUnit.MILLISECONDS.toNanos(3));
+            sleep(5);
+            span.end();
+            spanNanos[0] = System.nanoTime() - started;
+        });
+
+        // == Then ==
+        double security = phaseTimer(HandlerNames.NONE, "security").totalTime(TimeUnit.NANOSECONDS);
+        assertEquals(3, phaseTimer(HandlerNames.NONE, "repository").totalTime(TimeUnit.MILLISECONDS));
+        assertTrue(security <= spanNanos[0] - TimeUnit.MILLISECONDS.toNanos(3));
+        assertTrue(security >= TimeUnit.MILLISECONDS.toNanos(2));
+    }
+
+    @Test
+    void doFilter_NoHandler_TaggedNoneAndOutsideRequestIgnored() throws Exception {
+        // == Given ==
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/unknown");
+
+        // == When ==
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> RequestTimings.add(RequestPhase.SECURITY, TimeUnit.MILLISECONDS.toNanos(5)));
+        // 請求結束後 (例如排程工作) 不再累計
+        RequestTimings.add(RequestPhase.REPOSITORY, TimeUnit.MILLISECONDS.toNanos(100));
+
+        // == Then ==
+        assertEquals(5, phaseTimer(HandlerNames.NONE, "security").totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, phaseTimer(HandlerNames.NONE, "repository").totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    private Timer phaseTimer(String handler, String phase) {
+        return meterRegistry.get(RequestTimingFilter.METRIC_NAME).tag("handler", handler).tag("phase", phase).timer();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class SampleController {
+        public void getPost() {
+        }
+    }
+}
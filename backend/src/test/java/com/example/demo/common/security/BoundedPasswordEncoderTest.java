@@ -0,0 +1,116 @@
+package com.example.demo.common.security;
+
+import com.example.demo.common.security.BoundedPasswordEncoder.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class BoundedPasswordEncoderTest {
+    @Mock
+    private PasswordEncoder delegate;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_DelegatedAndTimed() {
+        // == Given ==
+        given(meterRegistryProvider.getIfAvailable()).willReturn(meterRegistry);
+        given(delegate.encode("abc12345")).willReturn("hashed_password");
+        given(delegate.matches("abc12345", "hashed_password")).willReturn(true);
+        encoder = new BoundedPasswordEncoder(delegate, 2, 10, Duration.ofSeconds(5), meterRegistryProvider);
+
+        // == When ==
+        String hash = encoder.encode("abc12345");
+        boolean matched = encoder.matches("abc12345", "hashed_password");
+
+        // == Then ==
+        assertEquals("hashed_password", hash);
+        assertTrue(matched);
+        assertEquals(1, meterRegistry.get("auth.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("auth.password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void matches_PoolAndQueueFull_RejectedImmediately() throws Exception {
+        // == Given ==
+        given(meterRegistryProvider.getIfAvailable()).willReturn(meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.matches(anyString(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), meterRegistryProvider);
+
+        // 一個在執行、一個在佇列中，池子已滿
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "h"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "h"));
+        waitUntilQueued();
+
+        // == When & Then ==
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("c", "h"));
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+        // == Verify ==
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void encode_WaitExceedsTimeout_Rejected() {
+        // == Given ==
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.encode(anyString())).willAnswer(invocation -> {
+            release.await();
+            return "hashed_password";
+        });
+        // 沒有 MeterRegistry 時仍可運作
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), meterRegistryProvider);
+
+        // == When & Then ==
+        try {
+            assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("abc12345"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                fail("Task was not queued in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
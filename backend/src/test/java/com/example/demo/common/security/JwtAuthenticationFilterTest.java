@@ -0,0 +1,101 @@
+package com.example.demo.common.security;
+
+import com.example.demo.user.entity.User;
+import com.example.demo.user.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationFilterTest {
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+    @Mock
+    private FilterChain filterChain;
+    @InjectMocks
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void stateless_BuildPrincipalFromClaims_WithoutUserLookup() throws Exception {
+        // == Given ==
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "stateless", true);
+        Claims claims = claims(7, "ADMIN");
+        given(jwtService.parseClaims("token")).willReturn(claims);
+        given(jwtService.isTokenValid(any(Claims.class), any(User.class))).willReturn(true);
+
+        // == When ==
+        jwtAuthenticationFilter.doFilter(bearer("token"), new MockHttpServletResponse(), filterChain);
+
+        // == Then ==
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User principal = (User) authentication.getPrincipal();
+        assertEquals(7L, principal.getUserId());
+        assertEquals("leo@example.com", principal.getEmail());
+        assertEquals(UserRole.ADMIN, principal.getRole());
+
+        // == Verify ==
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void stateless_RevokedToken_NotAuthenticated() throws Exception {
+        // == Given ==
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "stateless", true);
+        Claims claims = claims(7, "USER");
+        given(jwtService.parseClaims("token")).willReturn(claims);
+        given(jwtService.isTokenValid(any(Claims.class), any(User.class))).willReturn(true);
+        given(tokenRevocationStore.isRevoked(7L, claims.getIssuedAt())).willReturn(true);
+
+        // == When ==
+        jwtAuthenticationFilter.doFilter(bearer("token"), new MockHttpServletResponse(), filterChain);
+
+        // == Then ==
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts/1/comments");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private Claims claims(int userId, String role) {
+        Claims claims = Jwts.claims();
+        claims.setSubject("leo@example.com");
+        claims.setIssuedAt(new Date());
+        claims.put("userId", userId);
+        claims.put("role", role);
+        return claims;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenRevocationStoreTest {
+
+    private final TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(3_600_000L);
+
+    @Test
+    void isRevoked_NoRevocation_False() {
+        assertFalse(tokenRevocationStore.isRevoked(1L, new Date()));
+    }
+
+    @Test
+    void isRevoked_TokenIssuedInSameSecond_True() {
+        // == Given ==
+        // 撤銷前簽發的 Token，iat 只到秒
+        Date issuedAt = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        // == When ==
+        tokenRevocationStore.revokeAll(1L);
+
+        // == Then ==
+        assertTrue(tokenRevocationStore.isRevoked(1L, issuedAt));
+    }
+
+    @Test
+    void isRevoked_TokenIssuedAfterRevocation_False() {
+        // == Given ==
+        tokenRevocationStore.revokeAll(1L);
+
+        // == When ==
+        Date issuedAt = Date.from(Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.SECONDS));
+
+        // == Then ==
+        assertFalse(tokenRevocationStore.isRevoked(1L, issuedAt));
+        assertFalse(tokenRevocationStore.isRevoked(2L, issuedAt));
+    }
+}
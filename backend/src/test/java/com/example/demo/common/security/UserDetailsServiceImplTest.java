@@ -0,0 +1,90 @@
+package com.example.demo.common.security;
+
+import com.example.demo.user.entity.User;
+import com.example.demo.user.event.UserCredentialsChangedEvent;
+import com.example.demo.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final String email = "leo@example.com";
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, tokenRevocationStore, meterRegistry,
+                100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void loadUserByUsername_SecondCallServedFromCache() {
+        // == Given ==
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+        mockUser.setEmail(email);
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(mockUser));
+
+        // == When ==
+        UserDetails first = userDetailsService.loadUserByUsername(email);
+        UserDetails second = userDetailsService.loadUserByUsername(email);
+
+        // == Then ==
+        assertSame(mockUser, first);
+        assertSame(mockUser, second);
+
+        // == Verify ==
+        verify(userRepository, times(1)).findByEmail(email);
+    }
+
+    @Test
+    void loadUserByUsername_UserNotFound_ThrowException() {
+        // == Given ==
+        given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+
+        // == When & Then ==
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(email));
+    }
+
+    @Test
+    void onCredentialsChanged_EvictAndRevokeTokens() {
+        // == Given ==
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+        mockUser.setEmail(email);
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(mockUser));
+        userDetailsService.loadUserByUsername(email);
+
+        // == When ==
+        userDetailsService.onCredentialsChanged(new UserCredentialsChangedEvent(1L, email));
+        userDetailsService.loadUserByUsername(email);
+
+        // == Verify ==
+        verify(userRepository, times(2)).findByEmail(email);
+        verify(tokenRevocationStore).revokeAll(1L);
+    }
+}
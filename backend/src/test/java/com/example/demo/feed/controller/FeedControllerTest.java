@@ -0,0 +1,116 @@
+package com.example.demo.feed.controller;
+
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.GlobalExceptionHandler;
+import com.example.demo.common.security.JwtAuthenticationEntryPoint;
+import com.example.demo.common.security.JwtAuthenticationFilter;
+import com.example.demo.common.security.JwtService;
+import com.example.demo.common.security.SecurityConfig;
+import com.example.demo.common.security.TokenRevocationStore;
+import com.example.demo.feed.dto.ListFeedRequest;
+import com.example.demo.feed.dto.ListFeedResponse;
+import com.example.demo.feed.error.FeedErrorCode;
+import com.example.demo.feed.service.FeedService;
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostSort;
+import com.example.demo.post.enums.PostStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = FeedController.class)
+@Import({
+        GlobalExceptionHandler.class,
+        SecurityConfig.class,
+        JwtAuthenticationFilter.class,
+        JwtAuthenticationEntryPoint.class})
+public class FeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FeedService feedService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Test
+    void listFeed_success_NoTokenRequired() throws Exception {
+        // == Given ==
+        ListFeedResponse mockResponse = new ListFeedResponse();
+        mockResponse.setPageSize(40);
+        mockResponse.setItems(List.of(new PostItem(2L, 1L, "Leo", 3L, "軟體版", "關於Java問題", 5, 12.0,
+                PostStatus.ACTIVE, Instant.parse("2026-01-01T12:00:00Z"))));
+        mockResponse.setNextCursor(null);
+        given(feedService.listFeed(any(ListFeedRequest.class))).willReturn(mockResponse);
+
+        // == When ==
+        ResultActions result = mockMvc.perform(get("/feed")
+                .param("sort", "hot")
+                .param("boardIds", "3, 4"));
+
+        // == Then ==
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageSize").value(40))
+                .andExpect(jsonPath("$.items[0].postId").value(2))
+                .andExpect(jsonPath("$.items[0].boardName").value("軟體版"));
+
+        // == Verify ==
+        ArgumentCaptor<ListFeedRequest> captor = ArgumentCaptor.forClass(ListFeedRequest.class);
+        verify(feedService).listFeed(captor.capture());
+        assertEquals(PostSort.HOT, captor.getValue().getSort());
+        assertEquals(List.of(3L, 4L), captor.getValue().toBoardIdList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "abc",
+            "1,,2",
+            "-1"
+    })
+    void listFeed_BoardIdsInvalid_Return400(String boardIds) throws Exception {
+        // == When & Then ==
+        mockMvc.perform(get("/feed").param("boardIds", boardIds))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.VALIDATION_FAILED.name()))
+                .andExpect(jsonPath("$.code").value(FeedErrorCode.BOARD_IDS_INVALID.name()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0",
+            "101"
+    })
+    void listFeed_PageSizeInvalid_Return400(String pageSize) throws Exception {
+        // == When & Then ==
+        mockMvc.perform(get("/feed").param("pageSize", pageSize))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(FeedErrorCode.PAGE_SIZE_INVALID.name()));
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.demo.feed.service;
+
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.ApiException;
+import com.example.demo.feed.dto.ListFeedRequest;
+import com.example.demo.feed.dto.ListFeedResponse;
+import com.example.demo.feed.error.FeedErrorCode;
+import com.example.demo.post.dto.PostCursor;
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostSort;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import com.example.demo.post.service.HotRankingIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class FeedServiceTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private HotRankingIndex hotRankingIndex;
+    @Mock
+    private BoardCatalog boardCatalog;
+    @InjectMocks
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedService, "maxBoards", 16);
+    }
+
+    @Test
+    void listFeed_Latest_MergesBoardsInGlobalOrder() {
+        // == Given ==
+        // 看板 1 與 2 的文章時間交錯，每個看板依 createdAt DESC 排序
+        Map<Long, List<PostItem>> boards = Map.of(
+                1L, List.of(item(9, 1, 90), item(7, 1, 70), item(5, 1, 50), item(1, 1, 10)),
+                2L, List.of(item(8, 2, 80), item(6, 2, 60), item(4, 2, 40), item(3, 2, 30), item(2, 2, 20)));
+        givenLatestQueries(boards);
+        given(boardCatalog.exists(anyLong())).willReturn(true);
+
+        ListFeedRequest request = new ListFeedRequest();
+        request.setPageSize(4);
+        request.setBoardIds("1,2");
+
+        // == When ==
+        ListFeedResponse first = feedService.listFeed(request);
+        request.setCursor(first.getNextCursor());
+        ListFeedResponse second = feedService.listFeed(request);
+        request.setCursor(second.getNextCursor());
+        ListFeedResponse third = feedService.listFeed(request);
+
+        // == Then ==
+        assertEquals(List.of(9L, 8L, 7L, 6L), postIds(first));
+        assertEquals(List.of(5L, 4L, 3L, 2L), postIds(second));
+        assertEquals(List.of(1L), postIds(third));
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void listFeed_Latest_RefillsBoardWhenChunkUsedUp() {
+        // == Given ==
+        // 只有看板 1 有文章，chunk 大小 (8) 小於一頁 (20)，需要往後再取
+        List<PostItem> posts = new ArrayList<>();
+        for (int i = 30; i >= 1; i--) {
+            posts.add(item(i, 1, i));
+        }
+        givenLatestQueries(Map.of(1L, posts, 2L, List.of(), 3L, List.of(), 4L, List.of(), 5L, List.of(), 6L, List.of()));
+        given(boardCatalog.exists(anyLong())).willReturn(true);
+
+        ListFeedRequest request = new ListFeedRequest();
+        request.setPageSize(20);
+        request.setBoardIds("1,2,3,4,5,6");
+
+        // == When ==
+        ListFeedResponse response = feedService.listFeed(request);
+
+        // == Then ==
+        assertEquals(20, response.getItems().size());
+        assertEquals(30L, response.getItems().get(0).getPostId());
+        assertEquals(11L, response.getItems().get(19).getPostId());
+        assertEquals(11L, PostCursor.decode(response.getNextCursor(), PostSort.LATEST).getPostId());
+
+        // == Verify ==
+        verify(postRepository, atLeastOnce()).findByBoardIdCreatedBefore(eq(1L), eq(PostStatus.ACTIVE), any(), anyLong(), any());
+    }
+
+    @Test
+    void listFeed_HotFirstPage_ServedFromRankingIndex() {
+        // == Given ==
+        PostItem a = item(1, 1, 10);
+        a.setHotScore(50.0);
+        PostItem b = item(2, 2, 20);
+        b.setHotScore(80.0);
+        given(hotRankingIndex.page(eq(1L), eq(0), anyInt())).willReturn(Optional.of(List.of(a)));
+        given(hotRankingIndex.page(eq(2L), eq(0), anyInt())).willReturn(Optional.of(List.of(b)));
+
+        ListFeedRequest request = new ListFeedRequest();
+        request.setSort(PostSort.HOT);
+        request.setBoardIds("1,2");
+        given(boardCatalog.exists(anyLong())).willReturn(true);
+
+        // == When ==
+        ListFeedResponse response = feedService.listFeed(request);
+
+        // == Then ==
+        assertEquals(List.of(2L, 1L), postIds(response));
+        assertNull(response.getNextCursor());
+
+        // == Verify ==
+        verify(postRepository, never()).findByBoardId(anyLong(), any(), any());
+    }
+
+    @Test
+    void listFeed_AllBoards_SingleKeysetQueryPerPage() {
+        // == Given ==
+        // 看板數遠多於上限，未指定看板時也不會逐一查詢
+        List<PostItem> posts = new ArrayList<>();
+        for (int i = 30; i >= 1; i--) {
+            posts.add(item(i, i, i));
+        }
+        given(postRepository.findItemsByStatus(eq(PostStatus.ACTIVE), any(Pageable.class))).willAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            return new SliceImpl<>(posts.subList(0, pageable.getPageSize()), pageable, true);
+        });
+        given(postRepository.findCreatedBefore(eq(PostStatus.ACTIVE), any(Instant.class), anyLong(), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    long postId = invocation.getArgument(2);
+                    Pageable pageable = invocation.getArgument(3);
+                    return posts.stream().filter(p -> p.getPostId() < postId).limit(pageable.getPageSize()).toList();
+                });
+
+        ListFeedRequest request = new ListFeedRequest();
+        request.setPageSize(20);
+
+        // == When ==
+        ListFeedResponse first = feedService.listFeed(request);
+        request.setCursor(first.getNextCursor());
+        ListFeedResponse second = feedService.listFeed(request);
+
+        // == Then ==
+        assertEquals(20, first.getItems().size());
+        assertEquals(30L, first.getItems().get(0).getPostId());
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L), postIds(second));
+        assertNull(second.getNextCursor());
+
+        // == Verify ==
+        verify(postRepository).findItemsByStatus(eq(PostStatus.ACTIVE), any(Pageable.class));
+        verify(postRepository).findCreatedBefore(eq(PostStatus.ACTIVE), any(Instant.class), anyLong(), any(Pageable.class));
+        verify(postRepository, never()).findByBoardId(anyLong(), any(), any());
+        verifyNoInteractions(boardCatalog);
+    }
+
+    @Test
+    void listFeed_MoreBoardsThanCap_ThrowException() {
+        // == Given ==
+        StringBuilder boardIds = new StringBuilder("1");
+        for (int i = 2; i <= 17; i++) {
+            boardIds.append(',').append(i);
+        }
+        ListFeedRequest request = new ListFeedRequest();
+        request.setBoardIds(boardIds.toString());
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> feedService.listFeed(request));
+
+        // == Then ==
+        assertEquals(ErrorMessage.VALIDATION_FAILED, exception.getErrorMessage());
+        assertEquals(FeedErrorCode.BOARD_IDS_INVALID, exception.getErrorCode());
+
+        // == Verify ==
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void listFeed_UnknownBoard_ThrowException() {
+        // == Given ==
+        ListFeedRequest request = new ListFeedRequest();
+        request.setBoardIds("1,99");
+        given(boardCatalog.exists(1L)).willReturn(true);
+        given(boardCatalog.exists(99L)).willReturn(false);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> feedService.listFeed(request));
+
+        // == Then ==
+        assertEquals(ErrorMessage.NOT_FOUND, exception.getErrorMessage());
+        assertEquals(FeedErrorCode.BOARD_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    void listFeed_CursorOfOtherSort_ThrowException() {
+        // == Given ==
+        ListFeedRequest request = new ListFeedRequest();
+        request.setSort(PostSort.HOT);
+        request.setCursor(PostCursor.after(PostSort.LATEST, item(1, 1, 10)).encode());
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> feedService.listFeed(request));
+
+        // == Then ==
+        assertEquals(ErrorMessage.VALIDATION_FAILED, exception.getErrorMessage());
+        assertEquals(FeedErrorCode.CURSOR_INVALID, exception.getErrorCode());
+    }
+
+    // 以記憶體中的列表模擬 LATEST 的兩種查詢
+    private void givenLatestQueries(Map<Long, List<PostItem>> boards) {
+        given(postRepository.findByBoardId(anyLong(), eq(PostStatus.ACTIVE), any(Pageable.class))).willAnswer(invocation -> {
+            long boardId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(2);
+            List<PostItem> posts = boards.get(boardId);
+            List<PostItem> page = posts.subList(0, Math.min(pageable.getPageSize(), posts.size()));
+            return new SliceImpl<>(page, pageable, posts.size() > page.size());
+        });
+        given(postRepository.findByBoardIdCreatedBefore(anyLong(), eq(PostStatus.ACTIVE), any(Instant.class), anyLong(), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    long boardId = invocation.getArgument(0);
+                    Instant createdAt = invocation.getArgument(2);
+                    long postId = invocation.getArgument(3);
+                    Pageable pageable = invocation.getArgument(4);
+                    return boards.get(boardId).stream()
+                            .filter(p -> p.getCreatedAt().isBefore(createdAt)
+                                    || (p.getCreatedAt().equals(createdAt) && p.getPostId() < postId))
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+    }
+
+    private static PostItem item(long postId, long boardId, long minutes) {
+        return new PostItem(postId, 1L, "Leo", boardId, "看板" + boardId, "標題" + postId, 0, 0.0,
+                PostStatus.ACTIVE, BASE.plusSeconds(minutes * 60));
+    }
+
+    private static List<Long> postIds(ListFeedResponse response) {
+        return response.getItems().stream().map(PostItem::getPostId).toList();
+    }
+}
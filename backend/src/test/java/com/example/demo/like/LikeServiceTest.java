@@ -0,0 +1,111 @@
+package com.example.demo.like;
+
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.ApiException;
+import com.example.demo.like.dto.ToggleLikeResponse;
+import com.example.demo.like.error.LikeErrorCode;
+import com.example.demo.like.repository.PostLikeRepository;
+import com.example.demo.like.service.LikeService;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import com.example.demo.post.service.PostCounterBuffer;
+import com.example.demo.post.service.PostViewCache;
+import com.example.demo.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LikeServiceTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostCounterBuffer postCounterBuffer;
+    @Mock
+    private PostViewCache postViewCache;
+    @InjectMocks
+    private LikeService likeService;
+
+    private final long postId = 1L;
+    private User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        mockUser = new User();
+        mockUser.setUserId(2L);
+        // 直接執行傳入的讀取
+        given(postCounterBuffer.readConsistent(ArgumentMatchers.<Supplier<Long>>any()))
+                .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(0).get());
+    }
+
+    @Test
+    void toggleLike_NotLikedYet_Like() {
+        // == Given ==
+        given(postRepository.findLikeCountByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(10));
+        given(postLikeRepository.deleteByUserIdAndPostId(2L, postId)).willReturn(0);
+        given(postLikeRepository.insertIgnore(2L, postId)).willReturn(1);
+        given(postCounterBuffer.pendingLikes(postId)).willReturn(3L);
+
+        // == When ==
+        ToggleLikeResponse response = likeService.toggleLike(postId, mockUser);
+
+        // == Then ==
+        assertTrue(response.isLiked());
+        assertEquals(14, response.getLikeCount());
+
+        // == Verify ==
+        verify(postCounterBuffer).addLikes(postId, 1);
+        verify(postViewCache).invalidate(postId);
+    }
+
+    @Test
+    void toggleLike_AlreadyLiked_Unlike() {
+        // == Given ==
+        given(postRepository.findLikeCountByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(10));
+        given(postLikeRepository.deleteByUserIdAndPostId(2L, postId)).willReturn(1);
+
+        // == When ==
+        ToggleLikeResponse response = likeService.toggleLike(postId, mockUser);
+
+        // == Then ==
+        assertFalse(response.isLiked());
+        assertEquals(9, response.getLikeCount());
+
+        // == Verify ==
+        verify(postLikeRepository, never()).insertIgnore(anyLong(), anyLong());
+        verify(postCounterBuffer).addLikes(postId, -1);
+    }
+
+    @Test
+    void toggleLike_PostNotFound_ThrowException() {
+        // == Given ==
+        given(postRepository.findLikeCountByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.empty());
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> likeService.toggleLike(postId, mockUser));
+
+        // == Then ==
+        assertEquals(ErrorMessage.NOT_FOUND, exception.getErrorMessage());
+        assertEquals(LikeErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+
+        // == Verify ==
+        verify(postLikeRepository, never()).deleteByUserIdAndPostId(anyLong(), anyLong());
+        verify(postCounterBuffer, never()).addLikes(anyLong(), anyLong());
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.demo.post.controller;
 
+import com.example.demo.comment.dto.CommentItem;
 import com.example.demo.comment.dto.CreateCommentRequest;
 import com.example.demo.comment.dto.CreateCommentResponse;
+import com.example.demo.comment.dto.ListCommentsRequest;
+import com.example.demo.comment.dto.ListCommentsResponse;
 import com.example.demo.comment.error.CommentErrorCode;
 import com.example.demo.comment.service.CommentService;
+import com.example.demo.like.dto.ToggleLikeResponse;
+import com.example.demo.like.error.LikeErrorCode;
+import com.example.demo.like.service.LikeService;
 import com.example.demo.common.error.ErrorMessage;
 import com.example.demo.common.exception.ApiException;
 import com.example.demo.common.exception.GlobalExceptionHandler;
 import com.example.demo.common.security.JwtAuthenticationEntryPoint;
 import com.example.demo.common.security.JwtAuthenticationFilter;
 import com.example.demo.common.security.JwtService;
+import com.example.demo.common.security.TokenRevocationStore;
 import com.example.demo.common.security.SecurityConfig;
 import com.example.demo.post.dto.DeletePostResponse;
 import com.example.demo.post.dto.GetPostResponse;
+import com.example.demo.post.dto.GetPostsResponse;
+import com.example.demo.post.dto.PostLookupItem;
 import com.example.demo.post.dto.UpdatePostRequest;
 import com.example.demo.post.dto.UpdatePostResponse;
 import com.example.demo.post.enums.PostStatus;
@@ -36,8 +45,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.BDDMockito.given;
@@ -68,12 +79,18 @@ public class PostControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationStore tokenRevocationStore;
+
     @MockitoBean
     private PostService postService;
 
     @MockitoBean
     private CommentService commentService;
 
+    @MockitoBean
+    private LikeService likeService;
+
 
     @Test
     void getPost_success() throws Exception {
@@ -92,7 +109,7 @@ public class PostControllerTest {
                 .commentCount(0)
                 .createdAt(Instant.now()).build();
 
-        given(postService.getPost(postId)).willReturn(mockResponse);
+        given(postService.getPost(postId, 0)).willReturn(mockResponse);
 
         // == When ==
         ResultActions result = mockMvc.perform(get("/posts/{postId}", postId)
@@ -114,6 +131,81 @@ public class PostControllerTest {
 
     }
 
+    @Test
+    void getPosts_success_NoTokenRequired() throws Exception {
+        // == Given ==
+        GetPostsResponse mockResponse = new GetPostsResponse();
+        mockResponse.setItems(List.of(
+                new PostLookupItem(3L, true, GetPostResponse.builder().postId(3L).title("第三篇").build()),
+                new PostLookupItem(2L, false, null)));
+        given(postService.getPosts(List.of(3L, 2L))).willReturn(mockResponse);
+
+        // == When ==
+        ResultActions result = mockMvc.perform(get("/posts").param("ids", "3, 2"));
+
+        // == Then ==
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].postId").value(3))
+                .andExpect(jsonPath("$.items[0].found").value(true))
+                .andExpect(jsonPath("$.items[0].post.title").value("第三篇"))
+                .andExpect(jsonPath("$.items[1].postId").value(2))
+                .andExpect(jsonPath("$.items[1].found").value(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "abc",
+            "1,,2",
+            "1,-2"
+    })
+    void getPosts_IdsInvalid_Return400(String ids) throws Exception {
+        // == When & Then ==
+        mockMvc.perform(get("/posts").param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.VALIDATION_FAILED.name()))
+                .andExpect(jsonPath("$.code").value(PostErrorCode.IDS_INVALID.name()));
+    }
+
+    @Test
+    void getPost_IncludeComments_success() throws Exception {
+        // == Given ==
+        long postId = 1L;
+
+        GetPostResponse mockResponse = GetPostResponse.builder()
+                .postId(postId)
+                .title("關於SpringBoot問題")
+                .commentCount(1)
+                .comments(List.of(new CommentItem(5L, 2L, "Amy", "這是一則留言", Instant.parse("2026-01-01T12:00:00Z"))))
+                .build();
+
+        given(postService.getPost(postId, 10)).willReturn(mockResponse);
+
+        // == When ==
+        ResultActions result = mockMvc.perform(get("/posts/{postId}", postId)
+                .param("includeComments", "10"));
+
+        // == Then ==
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].commentId").value(5))
+                .andExpect(jsonPath("$.comments[0].body").value("這是一則留言"))
+                .andExpect(jsonPath("$.nextCommentsCursor").doesNotExist());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "-1",
+            "51"
+    })
+    void getPost_IncludeCommentsInvalid_Return400(String includeComments) throws Exception {
+        // == When & Then ==
+        mockMvc.perform(get("/posts/{postId}", 1L)
+                        .param("includeComments", includeComments))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.VALIDATION_FAILED.name()))
+                .andExpect(jsonPath("$.code").value(PostErrorCode.INCLUDE_COMMENTS_INVALID.name()));
+    }
+
     @ValueSource(strings = {
             "0",
             "-1",
@@ -135,7 +227,7 @@ public class PostControllerTest {
     void getPost_PostNotFound_Return404() throws Exception {
         // == Given ==
         long postId = 99L;
-        given(postService.getPost(postId))
+        given(postService.getPost(postId, 0))
                 .willThrow(new ApiException(
                         ErrorMessage.NOT_FOUND,
                         PostErrorCode.POST_NOT_FOUND
@@ -715,4 +807,103 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.code").value(CommentErrorCode.POST_NOT_FOUND.name()));
 
     }
+
+    @Test
+    void toggleLike_success() throws Exception {
+        // == Given ==
+        User mockUser = new User();
+        mockUser.setUserId(2L);
+        mockUser.setEmail("leo@example.com");
+        mockUser.setPasswordHash("pass");
+        mockUser.setRole(UserRole.USER);
+
+        long postId = 1L;
+        given(likeService.toggleLike(postId, mockUser)).willReturn(new ToggleLikeResponse(true, 11));
+
+        // == When ==
+        ResultActions result = mockMvc.perform(post("/posts/{postId}/like", postId)
+                .with(user(mockUser)));
+
+        // == Then ==
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.liked").value(true))
+                .andExpect(jsonPath("$.likeCount").value(11));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0",
+            "-1",
+            "abc"
+    })
+    void toggleLike_InvalidPath_Return400(String invalidPostId) throws Exception {
+        // == Given ==
+        User mockUser = new User();
+        mockUser.setUserId(2L);
+        mockUser.setRole(UserRole.USER);
+
+        // == When & Then ==
+        mockMvc.perform(post("/posts/{postId}/like", invalidPostId)
+                        .with(user(mockUser)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.VALIDATION_FAILED.name()))
+                .andExpect(jsonPath("$.code").value(LikeErrorCode.PATH_FORMAT_ERROR.name()));
+    }
+
+    @Test
+    void toggleLike_NoToken_Return401() throws Exception {
+        // == When & Then ==
+        mockMvc.perform(post("/posts/{postId}/like", 1L))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(LikeErrorCode.SECURITY_UNAUTHORIZED.name()));
+    }
+
+    @Test
+    void listComments_success_NoTokenRequired() throws Exception {
+        // == Given ==
+        long postId = 1L;
+        ListCommentsResponse mockResponse = new ListCommentsResponse();
+        mockResponse.setPageSize(20);
+        mockResponse.setItems(List.of(
+                new CommentItem(1L, 2L, "Amy", "這是一則留言", Instant.parse("2026-01-01T12:00:00Z"))));
+        mockResponse.setNextCursor(null);
+        given(commentService.listComments(eq(postId), any(ListCommentsRequest.class))).willReturn(mockResponse);
+
+        // == When ==
+        ResultActions result = mockMvc.perform(get("/posts/{postId}/comments", postId));
+
+        // == Then ==
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageSize").value(20))
+                .andExpect(jsonPath("$.items[0].commentId").value(1))
+                .andExpect(jsonPath("$.items[0].authorName").value("Amy"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0",
+            "101",
+            "abc"
+    })
+    void listComments_InvalidPageSize_Return400(String pageSize) throws Exception {
+        // == When & Then ==
+        mockMvc.perform(get("/posts/{postId}/comments", 1L)
+                        .param("pageSize", pageSize))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.VALIDATION_FAILED.name()));
+    }
+
+    @Test
+    void listComments_PostNotFound_Return404() throws Exception {
+        // == Given ==
+        long postId = 3L;
+        given(commentService.listComments(eq(postId), any(ListCommentsRequest.class)))
+                .willThrow(new ApiException(ErrorMessage.NOT_FOUND, CommentErrorCode.POST_NOT_FOUND));
+
+        // == When & Then ==
+        mockMvc.perform(get("/posts/{postId}/comments", postId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(CommentErrorCode.POST_NOT_FOUND.name()));
+    }
 }
@@ -0,0 +1,130 @@
+package com.example.demo.post.service;
+
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class HotRankingIndexTest {
+    @Mock
+    private PostRepository postRepository;
+
+    private HotRankingIndex hotRankingIndex;
+
+    private final long boardId = 1L;
+    private final PostItem first = item(30L, "第一名", 20.0);
+    private final PostItem second = item(20L, "第二名", 10.0);
+
+    @BeforeEach
+    void setUp() {
+        hotRankingIndex = new HotRankingIndex(postRepository, 10);
+    }
+
+    @Test
+    void page_LoadsOnceAndServesFromMemory() {
+        // == Given ==
+        given(postRepository.findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first, second)));
+
+        // == When ==
+        Optional<List<PostItem>> page1 = hotRankingIndex.page(boardId, 0, 1);
+        Optional<List<PostItem>> page2 = hotRankingIndex.page(boardId, 1, 1);
+
+        // == Then ==
+        assertEquals(List.of(first), page1.orElseThrow());
+        assertEquals(List.of(second), page2.orElseThrow());
+
+        // == Verify ==
+        verify(postRepository, times(1)).findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    void page_OffsetBeyondCapacity_ReturnEmpty() {
+        // == When ==
+        Optional<List<PostItem>> page = hotRankingIndex.page(boardId, 10, 5);
+
+        // == Then ==
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void remove_And_UpdateTitle_ApplyToSnapshot() {
+        // == Given ==
+        given(postRepository.findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first, second)));
+        hotRankingIndex.page(boardId, 0, 10);
+
+        // == When ==
+        hotRankingIndex.remove(boardId, first.getPostId());
+        hotRankingIndex.updateTitle(boardId, second.getPostId(), "新標題");
+        List<PostItem> items = hotRankingIndex.page(boardId, 0, 10).orElseThrow();
+
+        // == Then ==
+        assertEquals(1, items.size());
+        assertEquals(second.getPostId(), items.get(0).getPostId());
+        assertEquals("新標題", items.get(0).getTitle());
+
+        // == Verify ==
+        verify(postRepository, times(1)).findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    void remove_DuringLoad_SnapshotNotStored() {
+        // == Given ==
+        // 載入期間此看板有文章被刪除
+        given(postRepository.findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    hotRankingIndex.remove(boardId, first.getPostId());
+                    return new SliceImpl<>(List.of(first, second));
+                })
+                .willReturn(new SliceImpl<>(List.of(second)));
+
+        // == When ==
+        hotRankingIndex.page(boardId, 0, 10);
+        List<PostItem> items = hotRankingIndex.page(boardId, 0, 10).orElseThrow();
+
+        // == Then ==
+        assertEquals(List.of(second), items);
+
+        // == Verify ==
+        verify(postRepository, times(2)).findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    void invalidate_ReloadOnNextRead() {
+        // == Given ==
+        given(postRepository.findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first, second)));
+        hotRankingIndex.page(boardId, 0, 10);
+
+        // == When ==
+        hotRankingIndex.invalidate(boardId);
+        hotRankingIndex.page(boardId, 0, 10);
+
+        // == Verify ==
+        verify(postRepository, times(2)).findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class));
+    }
+
+    private PostItem item(long postId, String title, double hotScore) {
+        return new PostItem(postId, 1L, "Alice", boardId, "軟體版", title, 0, hotScore, PostStatus.ACTIVE, Instant.now());
+    }
+}
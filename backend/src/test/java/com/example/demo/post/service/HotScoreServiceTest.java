@@ -0,0 +1,125 @@
+package com.example.demo.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class HotScoreServiceTest {
+
+    private static final double DECAY = 1.0;
+    private static final long WINDOW_HOURS = 72;
+    private static final Duration WINDOW = Duration.ofHours(WINDOW_HOURS);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private HotRankingIndex hotRankingIndex;
+    private HotScoreService hotScoreService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE posts (post_id BIGINT PRIMARY KEY, board_id BIGINT NOT NULL, " +
+                "like_count INT NOT NULL, comment_count INT NOT NULL, hot_score DOUBLE NOT NULL, " +
+                "status VARCHAR(20) NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        hotRankingIndex = mock(HotRankingIndex.class);
+        // batch size 2：backfill 需要跨多個主鍵範圍
+        hotScoreService = new HotScoreService(jdbcTemplate, hotRankingIndex, DECAY, WINDOW_HOURS, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void score_NewPost_IsLikesTimesTwoPlusComments() {
+        // like * 2 + comment - 0 小時 * decay
+        assertEquals(25.0, HotScoreService.score(10, 5, 0, DECAY, WINDOW_HOURS));
+    }
+
+    @Test
+    void score_DecaysWithAge() {
+        double fresh = HotScoreService.score(10, 5, 1, DECAY, WINDOW_HOURS);
+        double older = HotScoreService.score(10, 5, 10, DECAY, WINDOW_HOURS);
+
+        assertEquals(24.0, fresh);
+        assertEquals(15.0, older);
+        assertTrue(fresh > older);
+    }
+
+    @Test
+    void score_OutsideDecayWindow_StopsDecaying() {
+        // 超出 window 後衰減量固定，分數只會因計數變動而改變
+        double atWindowEdge = HotScoreService.score(10, 5, WINDOW_HOURS, DECAY, WINDOW_HOURS);
+        double longAfter = HotScoreService.score(10, 5, WINDOW_HOURS * 10, DECAY, WINDOW_HOURS);
+
+        assertEquals(atWindowEdge, longAfter);
+    }
+
+    @Test
+    void refresh_FirstRun_BackfillsPostsOutsideWindow() {
+        // == Given ==
+        // 建立排程之前就已離開 window 的文章，hot_score 仍是預設值 0
+        Instant longAgo = Instant.now().minus(Duration.ofDays(30));
+        insertPost(1, 3, 1, 0.0, "ACTIVE", longAgo);
+        insertPost(4, 0, 0, 0.0, "ACTIVE", longAgo);
+        insertPost(5, 10, 0, 0.0, "DELETED", longAgo);
+
+        // == When ==
+        hotScoreService.refresh();
+
+        // == Then ==
+        assertEquals(3 * 2 + 1 - WINDOW_HOURS * DECAY, hotScore(1));
+        assertEquals(-WINDOW_HOURS * DECAY, hotScore(4));
+        assertEquals(0.0, hotScore(5));
+
+        // == Verify ==
+        verify(hotRankingIndex).invalidateAll();
+    }
+
+    @Test
+    void refresh_PostLeavesWindow_GetsFinalScore() {
+        // == Given ==
+        hotScoreService.refresh();
+        // 上一輪時仍在 window 內 (分數停在最後一次計算的值)，這一輪已離開
+        insertPost(1, 3, 0, -71.5, "ACTIVE", Instant.now().minus(WINDOW));
+
+        // == When ==
+        sleepMillis(20);
+        hotScoreService.refresh();
+
+        // == Then ==
+        assertEquals(3 * 2 - WINDOW_HOURS * DECAY, hotScore(1));
+    }
+
+    private void insertPost(long postId, int likeCount, int commentCount, double hotScore, String status, Instant createdAt) {
+        jdbcTemplate.update("INSERT INTO posts VALUES (?, 1, ?, ?, ?, ?, ?)",
+                postId, likeCount, commentCount, hotScore, status, Timestamp.from(createdAt));
+    }
+
+    private double hotScore(long postId) {
+        return jdbcTemplate.queryForObject("SELECT hot_score FROM posts WHERE post_id = ?", Double.class, postId);
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class PostCounterBufferTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PostCounterBuffer postCounterBuffer;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        // CHECK 讓指定的列寫回失敗，模擬批次中途出錯
+        jdbcTemplate.execute("CREATE TABLE posts (post_id BIGINT PRIMARY KEY, " +
+                "like_count INT NOT NULL CHECK (like_count >= 0), comment_count INT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO posts VALUES (1, 0, 0), (2, 0, 0), (3, 0, 0)");
+        postCounterBuffer = new PostCounterBuffer(jdbcTemplate, new DataSourceTransactionManager(database),
+                mock(HotScoreService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void flush_WritesMergedDeltas() {
+        // == Given ==
+        postCounterBuffer.addLikes(1L, 1);
+        postCounterBuffer.addLikes(1L, 1);
+        postCounterBuffer.addComments(2L, 3);
+
+        // == When ==
+        postCounterBuffer.flush();
+
+        // == Then ==
+        assertEquals(2, likeCount(1L));
+        assertEquals(3, commentCount(2L));
+        assertEquals(0, postCounterBuffer.pendingLikes(1L));
+    }
+
+    @Test
+    void flush_BatchFailsPartway_NextFlushAppliesEachDeltaOnce() {
+        // == Given ==
+        // 依 postId 排序寫回：post 1 先成功，post 2 讓 like_count < 0 而失敗
+        postCounterBuffer.addLikes(1L, 5);
+        postCounterBuffer.addLikes(2L, -1);
+        postCounterBuffer.addLikes(3L, 2);
+
+        // == When ==
+        postCounterBuffer.flush();
+
+        // == Then ==
+        // 整批 rollback，增量全數放回緩衝
+        assertEquals(0, likeCount(1L));
+        assertEquals(0, likeCount(3L));
+        assertEquals(5, postCounterBuffer.pendingLikes(1L));
+
+        // == When ==
+        jdbcTemplate.update("UPDATE posts SET like_count = 1 WHERE post_id = 2");
+        postCounterBuffer.flush();
+
+        // == Then ==
+        assertEquals(5, likeCount(1L));
+        assertEquals(0, likeCount(2L));
+        assertEquals(2, likeCount(3L));
+        assertEquals(0, postCounterBuffer.pendingLikes(1L));
+    }
+
+    private int likeCount(long postId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private int commentCount(long postId) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE post_id = ?", Integer.class, postId);
+    }
+}
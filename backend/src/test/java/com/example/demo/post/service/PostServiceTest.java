@@ -3,6 +3,11 @@ package com.example.demo.post.service;
 import com.example.demo.post.dto.GetPostResponse;
 import com.example.demo.board.entity.Board;
 import com.example.demo.board.repository.BoardRepository;
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.comment.dto.CommentCursor;
+import com.example.demo.comment.dto.CommentItem;
+import com.example.demo.comment.enums.CommentStatus;
+import com.example.demo.comment.repository.CommentRepository;
 import com.example.demo.common.error.ErrorMessage;
 import com.example.demo.common.exception.ApiException;
 import com.example.demo.post.dto.*;
@@ -11,6 +16,7 @@ import com.example.demo.post.enums.PostSort;
 import com.example.demo.post.enums.PostStatus;
 import com.example.demo.post.error.PostErrorCode;
 import com.example.demo.post.repository.PostRepository;
+import com.example.demo.search.service.PostSearchIndex;
 import com.example.demo.user.entity.User;
 import com.example.demo.user.entity.UserRole;
 import com.example.demo.user.repository.UserRepository;
@@ -19,20 +25,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +59,19 @@ public class PostServiceTest {
     private UserRepository userRepository;
     @Mock
     private PostRepository postRepository;
+    @Mock
+    private HotRankingIndex hotRankingIndex;
+    @Mock
+    private BoardCatalog boardCatalog;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Spy
+    private PostCounterBuffer postCounterBuffer = new PostCounterBuffer(mock(JdbcTemplate.class),
+            mock(PlatformTransactionManager.class), mock(HotScoreService.class));
+    @Spy
+    private PostViewCache postViewCache = new PostViewCache(mock(), 100, Duration.ofMinutes(1));
     @InjectMocks
     private PostService postService;
 
@@ -69,7 +98,8 @@ public class PostServiceTest {
         mockUser.setCreatedAt(Instant.now());
 
         // 模擬 Repository 找得到看板
-        given(boardRepository.findById(boardId)).willReturn(Optional.of(mockBoard));
+        given(boardCatalog.exists(boardId)).willReturn(true);
+        given(boardRepository.getReferenceById(boardId)).willReturn(mockBoard);
         given(userRepository.findById(userId)).willReturn(Optional.of(mockUser));
 
         Post savedPost = new Post();
@@ -94,6 +124,7 @@ public class PostServiceTest {
         assertEquals(post.getAuthor().getUserId(),userId);
         assertEquals(post.getTitle(),"關於SpringBoot");
         assertEquals(post.getStatus(),PostStatus.ACTIVE);
+        verify(boardRepository).adjustPostCount(boardId, 1);
     }
 
     @Test
@@ -105,7 +136,7 @@ public class PostServiceTest {
         mockRequest.setTitle("關於SpringBoot的問題");
         mockRequest.setBody("請問怎麼建立一個SpringBoot Maven專案");
 
-        given(boardRepository.findById(nonExistBoardId)).willReturn(Optional.empty());
+        given(boardCatalog.exists(nonExistBoardId)).willReturn(false);
         // == When ==
         // 使用你喜歡的 assertThrows，把抓到的例外存進變數
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -118,7 +149,7 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.BOARD_NOT_FOUND, exception.getErrorCode());
 
         // == Verify ==
-        verify(boardRepository).findById(nonExistBoardId);
+        verify(boardCatalog).exists(nonExistBoardId);
         verify(postRepository, never()).save(any());
     }
 
@@ -135,7 +166,8 @@ public class PostServiceTest {
         mockBoard.setBoardId(boardId);
         mockBoard.setName("軟體版");
 
-        given(boardRepository.findById(boardId)).willReturn(Optional.of(mockBoard));
+        given(boardCatalog.exists(boardId)).willReturn(true);
+        given(boardRepository.getReferenceById(boardId)).willReturn(mockBoard);
         given(userRepository.findById(nonExistUserId)).willReturn(Optional.empty());
 
         // == When ==
@@ -148,7 +180,7 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.USER_NOT_FOUND, exception.getErrorCode());
 
         // == Verify ==
-        verify(boardRepository).findById(boardId);
+        verify(boardCatalog).exists(boardId);
         verify(userRepository).findById(nonExistUserId);
         verify(postRepository, never()).save(any());
     }
@@ -200,7 +232,7 @@ public class PostServiceTest {
 
         Pageable mockPageable = PageRequest.of(0, 40, Sort.by("createdAt").descending());
         Page<PostItem> mockPage = new PageImpl<>(List.of(postItem1, postItem2), mockPageable, 2);
-        given(boardRepository.existsById(boardId)).willReturn(true);
+        given(boardRepository.findPostCountByBoardId(boardId)).willReturn(Optional.of(2L));
         given(postRepository.findByBoardId(eq(boardId),eq(PostStatus.ACTIVE), any(Pageable.class))).willReturn(mockPage);
 
         // == When ==
@@ -212,10 +244,11 @@ public class PostServiceTest {
         Pageable capturedPageable = pageCaptor.getValue();
         assertEquals(0,capturedPageable.getPageNumber());
         assertEquals(40,capturedPageable.getPageSize());
-        assertEquals(Sort.by("createdAt").descending(),capturedPageable.getSort());
+        assertEquals(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId")),capturedPageable.getSort());
         assertEquals(response.getItems().size(),2);
+        assertEquals(2L, response.getTotal()); // 總數來自 boards.post_count
 
-        verify(boardRepository).existsById(boardId);
+        verify(boardRepository).findPostCountByBoardId(boardId);
         verify(postRepository).findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class));
 
     }
@@ -236,7 +269,7 @@ public class PostServiceTest {
         mockBoard.setDescription("聊軟體相關的知識");
         mockBoard.setCreatedAt(Instant.now());
 
-        given(boardRepository.existsById(boardId)).willReturn(true);
+        given(boardRepository.findPostCountByBoardId(boardId)).willReturn(Optional.of(2L));
 
         Pageable mockPageable = PageRequest.of(0, 20, Sort.by("hotScore").descending());
         Page<PostItem> mockPage = new PageImpl<>(List.of(), mockPageable, 0);
@@ -251,14 +284,43 @@ public class PostServiceTest {
         Pageable capturedPageable = pageCaptor.getValue();
         assertEquals(0,capturedPageable.getPageNumber());
         assertEquals(20,capturedPageable.getPageSize());
-        assertEquals(Sort.by("hotScore").descending(),capturedPageable.getSort());
+        assertEquals(HotRankingIndex.HOT_SORT,capturedPageable.getSort());
         assertEquals(response.getItems().size(),0);
 
-        verify(boardRepository).existsById(boardId);
+        verify(boardRepository).findPostCountByBoardId(boardId);
         verify(postRepository).findByBoardId(eq(boardId), eq(PostStatus.ACTIVE), any(Pageable.class));
 
     }
 
+    @Test
+    void listPosts_HotSort_ServedFromRankingIndex() {
+        // == Given ==
+        long boardId = 2L;
+
+        ListPostsRequest mockRequest = new ListPostsRequest();
+        mockRequest.setPage(1);
+        mockRequest.setPageSize(1);
+        mockRequest.setSort(PostSort.HOT);
+
+        PostItem top = new PostItem(20L, 1L, "Alice", boardId, "軟體版", "熱門文章", 10, 25.0, PostStatus.ACTIVE, Instant.now());
+
+        given(boardRepository.findPostCountByBoardId(boardId)).willReturn(Optional.of(2L));
+        given(hotRankingIndex.page(boardId, 0, 1)).willReturn(Optional.of(List.of(top)));
+
+        // == When ==
+        ListPostsResponse response = postService.listPosts(boardId, mockRequest);
+
+        // == Then ==
+        assertEquals(1, response.getPage());
+        assertEquals(2L, response.getTotal());
+        assertEquals(List.of(top), response.getItems());
+        assertEquals(PostCursor.after(PostSort.HOT, top).encode(), response.getNextCursor());
+
+        // == Verify ==
+        verify(hotRankingIndex).page(boardId, 0, 1);
+        verify(postRepository, never()).findByBoardId(anyLong(), any(PostStatus.class), any(Pageable.class));
+    }
+
     @Test
     void listPosts_BoardNotFound_ThrowException() {
         // == Given ==
@@ -268,7 +330,7 @@ public class PostServiceTest {
         mockRequest.setPageSize(20);
         mockRequest.setSort(PostSort.LATEST);
 
-        given(boardRepository.existsById(nonExistBoardId)).willReturn(false);
+        given(boardRepository.findPostCountByBoardId(nonExistBoardId)).willReturn(Optional.empty());
 
         // == When ==
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -280,10 +342,79 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.BOARD_NOT_FOUND, exception.getErrorCode());
 
         // == Verify ==
-        verify(boardRepository).existsById(nonExistBoardId);
+        verify(boardRepository).findPostCountByBoardId(nonExistBoardId);
+        verify(postRepository, never()).findByBoardId(anyLong(), any(PostStatus.class), any(Pageable.class));
+    }
+
+    @Test
+    void listPosts_WithCursor_UsesKeysetQuery() {
+        // == Given ==
+        long boardId = 2L;
+        Instant lastCreatedAt = LocalDateTime.of(2026,1,1,12,0,0).toInstant(ZoneOffset.UTC);
+
+        PostItem lastSeen = new PostItem();
+        lastSeen.setPostId(50L);
+        lastSeen.setCreatedAt(lastCreatedAt);
+
+        ListPostsRequest mockRequest = new ListPostsRequest();
+        mockRequest.setPageSize(2);
+        mockRequest.setSort(PostSort.LATEST);
+        mockRequest.setCursor(PostCursor.after(PostSort.LATEST, lastSeen).encode());
+
+        PostItem postItem1 = new PostItem();
+        postItem1.setPostId(49L);
+        postItem1.setCreatedAt(lastCreatedAt.minusSeconds(60));
+        PostItem postItem2 = new PostItem();
+        postItem2.setPostId(48L);
+        postItem2.setCreatedAt(lastCreatedAt.minusSeconds(120));
+        PostItem postItem3 = new PostItem();
+        postItem3.setPostId(47L);
+        postItem3.setCreatedAt(lastCreatedAt.minusSeconds(180));
+
+        given(boardRepository.findPostCountByBoardId(boardId)).willReturn(Optional.of(2L));
+        given(postRepository.findByBoardIdCreatedBefore(eq(boardId), eq(PostStatus.ACTIVE), eq(lastCreatedAt), eq(50L), any(Pageable.class)))
+                .willReturn(List.of(postItem1, postItem2, postItem3));
+
+        // == When ==
+        ListPostsResponse response = postService.listPosts(boardId, mockRequest);
+
+        // == Then ==
+        ArgumentCaptor<Pageable> pageCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(postRepository).findByBoardIdCreatedBefore(eq(boardId), eq(PostStatus.ACTIVE), eq(lastCreatedAt), eq(50L), pageCaptor.capture());
+        assertEquals(0, pageCaptor.getValue().getPageNumber());
+        assertEquals(3, pageCaptor.getValue().getPageSize()); // 多取一筆判斷是否有下一頁
+
+        assertEquals(2, response.getItems().size());
+        assertEquals(48L, response.getItems().get(1).getPostId());
+        assertEquals(PostCursor.after(PostSort.LATEST, postItem2).encode(), response.getNextCursor());
         verify(postRepository, never()).findByBoardId(anyLong(), any(PostStatus.class), any(Pageable.class));
     }
 
+    @Test
+    void listPosts_CursorSortMismatch_ThrowException() {
+        // == Given ==
+        long boardId = 2L;
+        PostItem lastSeen = new PostItem();
+        lastSeen.setPostId(50L);
+        lastSeen.setCreatedAt(Instant.now());
+
+        ListPostsRequest mockRequest = new ListPostsRequest();
+        mockRequest.setSort(PostSort.HOT);
+        mockRequest.setCursor(PostCursor.after(PostSort.LATEST, lastSeen).encode()); // LATEST 的 cursor 拿去查 HOT
+
+        given(boardRepository.findPostCountByBoardId(boardId)).willReturn(Optional.of(2L));
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            postService.listPosts(boardId, mockRequest);
+        });
+
+        // == Then ==
+        assertEquals(ErrorMessage.VALIDATION_FAILED, exception.getErrorMessage());
+        assertEquals(PostErrorCode.CURSOR_INVALID, exception.getErrorCode());
+        verify(postRepository, never()).findByBoardIdHotScoreBelow(anyLong(), any(PostStatus.class), anyDouble(), anyLong(), any(Pageable.class));
+    }
+
     @Test
     void getPost_Success(){
         // == Given ==
@@ -328,6 +459,220 @@ public class PostServiceTest {
         verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
     }
 
+    @Test
+    void getPost_CacheMiss_IncludesPendingCounterDeltas(){
+        // == Given ==
+        long postId = 1L;
+
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+        mockUser.setDisplayName("Leo");
+
+        Board mockBoard = new Board();
+        mockBoard.setBoardId(2L);
+        mockBoard.setName("軟體版");
+
+        Post mockPost = new Post();
+        mockPost.setPostId(postId);
+        mockPost.setBoard(mockBoard);
+        mockPost.setAuthor(mockUser);
+        mockPost.setTitle("標題");
+        mockPost.setBody("內容");
+        mockPost.setLikeCount(10);
+        mockPost.setCommentCount(4);
+        mockPost.setStatus(PostStatus.ACTIVE);
+        mockPost.setCreatedAt(Instant.now());
+
+        given(postRepository.findByPostIdAndStatus(postId,PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+
+        // 已 commit 但尚未寫回 posts 的讚與留言
+        postCounterBuffer.addLikes(postId, 3);
+        postCounterBuffer.addComments(postId, 2);
+
+        // == When ==
+        GetPostResponse response = postService.getPost(postId);
+
+        // == Then ==
+        assertEquals(13, response.getLikeCount());
+        assertEquals(6, response.getCommentCount());
+    }
+
+    @Test
+    void getPost_SecondCallServedFromCache(){
+        // == Given ==
+        long postId = 1L;
+
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+        mockUser.setDisplayName("Leo");
+
+        Board mockBoard = new Board();
+        mockBoard.setBoardId(2L);
+        mockBoard.setName("軟體版");
+
+        Post mockPost = new Post();
+        mockPost.setPostId(postId);
+        mockPost.setBoard(mockBoard);
+        mockPost.setAuthor(mockUser);
+        mockPost.setTitle("關於SpringBoot的問題");
+        mockPost.setCommentCount(3);
+        mockPost.setStatus(PostStatus.ACTIVE);
+
+        given(postRepository.findByPostIdAndStatus(postId,PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+
+        // == When ==
+        GetPostResponse first = postService.getPost(postId);
+        GetPostResponse response = postService.getPost(postId);
+
+        // == Then ==
+        assertSame(first, response);
+        assertEquals(3, response.getCommentCount());
+
+        // == Verify ==
+        verify(postRepository, times(1)).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
+    }
+
+    @Test
+    void getPost_IncludeComments_CachedPostNotModified(){
+        // == Given ==
+        long postId = 1L;
+
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+        mockUser.setDisplayName("Leo");
+
+        Board mockBoard = new Board();
+        mockBoard.setBoardId(2L);
+        mockBoard.setName("軟體版");
+
+        Post mockPost = new Post();
+        mockPost.setPostId(postId);
+        mockPost.setBoard(mockBoard);
+        mockPost.setAuthor(mockUser);
+        mockPost.setTitle("關於SpringBoot的問題");
+        mockPost.setCommentCount(3);
+        mockPost.setStatus(PostStatus.ACTIVE);
+
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        List<CommentItem> rows = List.of(
+                new CommentItem(1L, 2L, "Amy", "第一則", now),
+                new CommentItem(2L, 3L, "Ben", "第二則", now.plusSeconds(1)),
+                new CommentItem(3L, 2L, "Amy", "第三則", now.plusSeconds(2)));
+
+        given(postRepository.findByPostIdAndStatus(postId,PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(commentRepository.findByPostId(eq(postId), eq(CommentStatus.ACTIVE), any(Pageable.class))).willReturn(rows);
+
+        // == When ==
+        GetPostResponse withComments = postService.getPost(postId, 2);
+        GetPostResponse withoutComments = postService.getPost(postId);
+
+        // == Then ==
+        assertEquals(List.of(1L, 2L), withComments.getComments().stream().map(CommentItem::getCommentId).toList());
+        assertEquals(2L, CommentCursor.decode(withComments.getNextCommentsCursor()).getCommentId());
+        assertNull(withoutComments.getComments());
+        assertNull(withoutComments.getNextCommentsCursor());
+
+        // == Verify ==
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(commentRepository, times(1)).findByPostId(eq(postId), eq(CommentStatus.ACTIVE), pageableCaptor.capture());
+        assertEquals(3, pageableCaptor.getValue().getPageSize());
+        verify(postRepository, times(1)).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
+    }
+
+    @Test
+    void getPosts_PreservesOrderAndMarksMissing(){
+        // == Given ==
+        ReflectionTestUtils.setField(postService, "maxBatchSize", 100);
+
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+        mockUser.setDisplayName("Leo");
+
+        Board mockBoard = new Board();
+        mockBoard.setBoardId(2L);
+        mockBoard.setName("軟體版");
+
+        Post post1 = new Post();
+        post1.setPostId(1L);
+        post1.setBoard(mockBoard);
+        post1.setAuthor(mockUser);
+        post1.setTitle("第一篇");
+        post1.setStatus(PostStatus.ACTIVE);
+
+        Post post3 = new Post();
+        post3.setPostId(3L);
+        post3.setBoard(mockBoard);
+        post3.setAuthor(mockUser);
+        post3.setTitle("第三篇");
+        post3.setStatus(PostStatus.ACTIVE);
+
+        // id 2 不存在或已刪除
+        given(postRepository.findByPostIdInAndStatus(Set.of(3L, 2L, 1L), PostStatus.ACTIVE))
+                .willReturn(List.of(post1, post3));
+
+        // == When ==
+        GetPostsResponse response = postService.getPosts(List.of(3L, 2L, 1L, 3L));
+
+        // == Then ==
+        assertEquals(List.of(3L, 2L, 1L, 3L), response.getItems().stream().map(PostLookupItem::getPostId).toList());
+        assertEquals(List.of(true, false, true, true), response.getItems().stream().map(PostLookupItem::isFound).toList());
+        assertEquals("第三篇", response.getItems().get(0).getPost().getTitle());
+        assertNull(response.getItems().get(1).getPost());
+        assertEquals("第一篇", response.getItems().get(2).getPost().getTitle());
+
+        // == Verify ==
+        verify(postRepository, times(1)).findByPostIdInAndStatus(any(), eq(PostStatus.ACTIVE));
+        verify(postRepository, never()).findByPostIdAndStatus(anyLong(), any());
+    }
+
+    @Test
+    void getPosts_CachedPostsNotQueriedAgain(){
+        // == Given ==
+        ReflectionTestUtils.setField(postService, "maxBatchSize", 100);
+
+        User mockUser = new User();
+        mockUser.setUserId(1L);
+
+        Board mockBoard = new Board();
+        mockBoard.setBoardId(2L);
+
+        Post post1 = new Post();
+        post1.setPostId(1L);
+        post1.setBoard(mockBoard);
+        post1.setAuthor(mockUser);
+        post1.setStatus(PostStatus.ACTIVE);
+
+        given(postRepository.findByPostIdAndStatus(1L, PostStatus.ACTIVE)).willReturn(Optional.of(post1));
+        given(postRepository.findByPostIdInAndStatus(Set.of(2L), PostStatus.ACTIVE)).willReturn(List.of());
+
+        // == When ==
+        postService.getPost(1L);
+        GetPostsResponse response = postService.getPosts(List.of(1L, 2L));
+
+        // == Then ==
+        assertEquals(List.of(true, false), response.getItems().stream().map(PostLookupItem::isFound).toList());
+
+        // == Verify ==
+        verify(postRepository).findByPostIdInAndStatus(Set.of(2L), PostStatus.ACTIVE);
+    }
+
+    @Test
+    void getPosts_TooManyIds_ThrowException(){
+        // == Given ==
+        ReflectionTestUtils.setField(postService, "maxBatchSize", 2);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class,
+                () -> postService.getPosts(List.of(1L, 2L, 3L)));
+
+        // == Then ==
+        assertEquals(ErrorMessage.VALIDATION_FAILED, exception.getErrorMessage());
+        assertEquals(PostErrorCode.IDS_INVALID, exception.getErrorCode());
+
+        // == Verify ==
+        verify(postRepository, never()).findByPostIdInAndStatus(any(), any());
+    }
+
     @Test
     void getPost_PostNotFoundOrDeleted_ThrowException() {
         // == Given ==
@@ -359,32 +704,26 @@ public class PostServiceTest {
         mockPostUser.setDisplayName("Leo");
         mockPostUser.setRole(UserRole.USER);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser);
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateStatusIfPermitted(eq(postId), eq(1L), eq(false),
+                eq(PostStatus.ACTIVE), eq(PostStatus.DELETED), any(Instant.class))).willReturn(1);
+        given(postRepository.findBoardIdByPostId(postId)).willReturn(Optional.of(2L));
 
         // == When ==
-        postService.deletePost(postId, mockPostUser);
+        DeletePostResponse response = postService.deletePost(postId, mockPostUser);
 
         //== Then ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
-        verify(postRepository).save(postCaptor.capture());
-        Post savedPost = postCaptor.getValue();
-        assertEquals(savedPost.getStatus(),PostStatus.DELETED);
+        assertEquals(postId, response.getPostId());
+        assertEquals(PostStatus.DELETED, response.getStatus());
+        verify(boardRepository).adjustPostCount(2L, -1);
+        verify(hotRankingIndex).remove(2L, postId);
+        verify(postViewCache).invalidate(postId);
+        verify(postSearchIndex).remove(postId);
+
+        // == Verify ==
+        // 不載入文章實體、不經過 save
+        verify(postRepository, never()).findByPostIdAndStatus(anyLong(), any());
+        verify(postRepository, never()).save(any());
+        verify(postRepository, never()).existsByPostIdAndStatus(anyLong(), any());
     }
 
     @Test
@@ -392,32 +731,14 @@ public class PostServiceTest {
         // == Given ==
         long postId = 1L;
 
-        User mockPostUser = new User();
-        mockPostUser.setUserId(1L);
-        mockPostUser.setDisplayName("Leo");
-        mockPostUser.setRole(UserRole.USER);
-
         User mockCurrentUser = new User();
         mockCurrentUser.setUserId(99L); // 非作者
         mockCurrentUser.setDisplayName("NotLeo");
         mockCurrentUser.setRole(UserRole.USER);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser);
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateStatusIfPermitted(eq(postId), eq(99L), eq(false),
+                eq(PostStatus.ACTIVE), eq(PostStatus.DELETED), any(Instant.class))).willReturn(0);
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(true);
 
         // == When ==
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -429,8 +750,8 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.NOT_POST_AUTHOR, exception.getErrorCode());
 
         // == Verify ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        verify(postRepository, never()).save(any());
+        verify(boardRepository, never()).adjustPostCount(anyLong(), anyLong());
+        verify(postSearchIndex, never()).remove(anyLong());
     }
 
     @Test
@@ -438,42 +759,21 @@ public class PostServiceTest {
         // == Given ==
         long postId = 1L;
 
-        User mockPostUser = new User();
-        mockPostUser.setUserId(1L);
-        mockPostUser.setDisplayName("Leo");
-        mockPostUser.setRole(UserRole.USER);
-
         User mockCurrentUser = new User();
         mockCurrentUser.setUserId(99L); // 非作者
         mockCurrentUser.setDisplayName("Admin");
         mockCurrentUser.setRole(UserRole.ADMIN);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser); // 文章作者不是 Admin
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateStatusIfPermitted(eq(postId), eq(99L), eq(true),
+                eq(PostStatus.ACTIVE), eq(PostStatus.DELETED), any(Instant.class))).willReturn(1);
+        given(postRepository.findBoardIdByPostId(postId)).willReturn(Optional.of(2L));
 
         // == When ==
         postService.deletePost(postId, mockCurrentUser);
 
         //== Then ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
-        verify(postRepository).save(postCaptor.capture());
-        Post savedPost = postCaptor.getValue();
-        assertEquals(savedPost.getStatus(),PostStatus.DELETED);
+        verify(boardRepository).adjustPostCount(2L, -1);
+        verify(postSearchIndex).remove(postId);
     }
 
     @Test
@@ -485,7 +785,9 @@ public class PostServiceTest {
         mockCurrentUser.setDisplayName("Leo");
         mockCurrentUser.setRole(UserRole.USER);
 
-        given(postRepository.findByPostIdAndStatus(nonExistPostId, PostStatus.ACTIVE)).willReturn(Optional.empty());
+        given(postRepository.updateStatusIfPermitted(eq(nonExistPostId), eq(1L), eq(false),
+                eq(PostStatus.ACTIVE), eq(PostStatus.DELETED), any(Instant.class))).willReturn(0);
+        given(postRepository.existsByPostIdAndStatus(nonExistPostId, PostStatus.ACTIVE)).willReturn(false);
 
         // == When ==
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -497,8 +799,7 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.POST_NOT_FOUND, exception.getErrorCode());
 
         // == Verify ==
-        verify(postRepository).findByPostIdAndStatus(nonExistPostId, PostStatus.ACTIVE);
-        verify(postRepository, never()).save(any());
+        verify(boardRepository, never()).adjustPostCount(anyLong(), anyLong());
     }
 
     @Test
@@ -511,38 +812,32 @@ public class PostServiceTest {
         mockPostUser.setDisplayName("Leo");
         mockPostUser.setRole(UserRole.USER);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser);
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
         UpdatePostRequest updateRequest = new UpdatePostRequest();
         updateRequest.setTitle("更新後的標題");
         updateRequest.setBody("更新後的內容");
 
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateContentIfPermitted(eq(postId), eq(1L), eq(false), eq(PostStatus.ACTIVE),
+                eq("更新後的標題"), eq("更新後的內容"), any(Instant.class))).willReturn(1);
+        given(postRepository.findBoardIdByPostId(postId)).willReturn(Optional.of(2L));
 
         // == When ==
-        postService.updatePost(postId, mockPostUser, updateRequest);
+        UpdatePostResponse response = postService.updatePost(postId, mockPostUser, updateRequest);
 
         //== Then ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
-        verify(postRepository).save(postCaptor.capture());
-        Post savedPost = postCaptor.getValue();
-        assertEquals(savedPost.getTitle(),updateRequest.getTitle());
-        assertEquals(savedPost.getBody(),updateRequest.getBody());
+        assertEquals(postId, response.getPostId());
+        assertEquals(updateRequest.getTitle(), response.getTitle());
+        assertEquals(updateRequest.getBody(), response.getBody());
+        verify(postViewCache).invalidate(postId);
+        verify(postSearchIndex).index(postId, 2L, "更新後的標題", "更新後的內容");
+        verify(hotRankingIndex).updateTitle(2L, postId, "更新後的標題");
+
+        // == Verify ==
+        // 不載入文章實體、不經過 save；標題與內容都有提供時不讀回內容
+        verify(postRepository, never()).findByPostIdAndStatus(anyLong(), any());
+        verify(postRepository, never()).save(any());
+        verify(postRepository, never()).findContentByPostId(anyLong());
     }
+
     @Test
     void updatePost_OnlyUpdateTitle_Success(){
         // == Given ==
@@ -553,43 +848,28 @@ public class PostServiceTest {
         mockPostUser.setDisplayName("Leo");
         mockPostUser.setRole(UserRole.USER);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser);
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
         String expectedOriginalBody = "請問如何創建專案?";
 
         UpdatePostRequest updateRequest = new UpdatePostRequest();
         updateRequest.setTitle("更新後的標題");
         updateRequest.setBody(null); // 只更新標題
 
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateContentIfPermitted(eq(postId), eq(1L), eq(false), eq(PostStatus.ACTIVE),
+                eq("更新後的標題"), isNull(), any(Instant.class))).willReturn(1);
+        given(postRepository.findContentByPostId(postId))
+                .willReturn(Optional.of(new PostContentItem(postId, 2L, "更新後的標題", expectedOriginalBody)));
 
         // == When ==
-        postService.updatePost(postId, mockPostUser, updateRequest);
+        UpdatePostResponse response = postService.updatePost(postId, mockPostUser, updateRequest);
 
         //== Then ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
-        verify(postRepository).save(postCaptor.capture());
-        Post savedPost = postCaptor.getValue();
-        assertEquals(savedPost.getTitle(),updateRequest.getTitle());
-        assertEquals(savedPost.getBody(),expectedOriginalBody); // 內容保持不變
+        assertEquals(updateRequest.getTitle(), response.getTitle());
+        assertEquals(expectedOriginalBody, response.getBody()); // 內容保持不變
+        verify(postSearchIndex).index(postId, 2L, "更新後的標題", expectedOriginalBody);
     }
 
     @Test
-    void updatePost_UserIsAdmin_Success(){
+    void updatePost_OnlyUpdateBody_RankingUntouched(){
         // == Given ==
         long postId = 1L;
 
@@ -598,42 +878,46 @@ public class PostServiceTest {
         mockPostUser.setDisplayName("Leo");
         mockPostUser.setRole(UserRole.USER);
 
+        UpdatePostRequest updateRequest = new UpdatePostRequest();
+        updateRequest.setBody("更新後的內容");
+
+        given(postRepository.updateContentIfPermitted(eq(postId), eq(1L), eq(false), eq(PostStatus.ACTIVE),
+                isNull(), eq("更新後的內容"), any(Instant.class))).willReturn(1);
+        given(postRepository.findContentByPostId(postId))
+                .willReturn(Optional.of(new PostContentItem(postId, 2L, "關於SpringBoot的問題", "更新後的內容")));
+
+        // == When ==
+        UpdatePostResponse response = postService.updatePost(postId, mockPostUser, updateRequest);
+
+        //== Then ==
+        assertEquals("關於SpringBoot的問題", response.getTitle());
+        verify(hotRankingIndex, never()).updateTitle(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void updatePost_UserIsAdmin_Success(){
+        // == Given ==
+        long postId = 1L;
+
         User mockCurrentUser = new User();
         mockCurrentUser.setUserId(99L); // 非作者
         mockCurrentUser.setDisplayName("Admin");
         mockCurrentUser.setRole(UserRole.ADMIN);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser); // 文章作者不是 Admin
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
         UpdatePostRequest updateRequest = new UpdatePostRequest();
         updateRequest.setTitle("更新後的標題");
         updateRequest.setBody("更新後的內容");
 
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateContentIfPermitted(eq(postId), eq(99L), eq(true), eq(PostStatus.ACTIVE),
+                eq("更新後的標題"), eq("更新後的內容"), any(Instant.class))).willReturn(1);
+        given(postRepository.findBoardIdByPostId(postId)).willReturn(Optional.of(2L));
 
         // == When ==
-        postService.updatePost(postId, mockCurrentUser, updateRequest);
+        UpdatePostResponse response = postService.updatePost(postId, mockCurrentUser, updateRequest);
 
         //== Then ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
-        verify(postRepository).save(postCaptor.capture());
-        Post savedPost = postCaptor.getValue();
-        assertEquals(savedPost.getTitle(),updateRequest.getTitle());
-        assertEquals(savedPost.getBody(),updateRequest.getBody());
+        assertEquals(updateRequest.getTitle(), response.getTitle());
+        assertEquals(updateRequest.getBody(), response.getBody());
     }
 
     @Test
@@ -641,36 +925,18 @@ public class PostServiceTest {
         // == Given ==
         long postId = 1L;
 
-        User mockPostUser = new User();
-        mockPostUser.setUserId(1L);
-        mockPostUser.setDisplayName("Leo");
-        mockPostUser.setRole(UserRole.USER);
-
         User mockCurrentUser = new User();
         mockCurrentUser.setUserId(99L); // 非作者
         mockCurrentUser.setDisplayName("NotLeo");
         mockCurrentUser.setRole(UserRole.USER);
 
-        Board mockPostBoard = new Board();
-        mockPostBoard.setBoardId(2L);
-        mockPostBoard.setName("軟體版");
-
-        Post mockPost = new Post();
-        mockPost.setPostId(postId);
-        mockPost.setBoard(mockPostBoard);
-        mockPost.setAuthor(mockPostUser);
-        mockPost.setTitle("關於SpringBoot的問題");
-        mockPost.setBody("請問如何創建專案?");
-        mockPost.setLikeCount(0);
-        mockPost.setCommentCount(0);
-        mockPost.setStatus(PostStatus.ACTIVE);
-        mockPost.setCreatedAt(Instant.now());
-
         UpdatePostRequest updateRequest = new UpdatePostRequest();
         updateRequest.setTitle("更新後的標題");
         updateRequest.setBody("更新後的內容");
 
-        given(postRepository.findByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(Optional.of(mockPost));
+        given(postRepository.updateContentIfPermitted(eq(postId), eq(99L), eq(false), eq(PostStatus.ACTIVE),
+                eq("更新後的標題"), eq("更新後的內容"), any(Instant.class))).willReturn(0);
+        given(postRepository.existsByPostIdAndStatus(postId, PostStatus.ACTIVE)).willReturn(true);
 
         // == When ==
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -682,8 +948,8 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.NOT_POST_AUTHOR, exception.getErrorCode());
 
         // == Verify ==
-        verify(postRepository).findByPostIdAndStatus(postId,PostStatus.ACTIVE);
-        verify(postRepository, never()).save(any());
+        verify(postRepository, never()).findContentByPostId(anyLong());
+        verify(postSearchIndex, never()).index(anyLong(), anyLong(), any(), any());
     }
 
     @Test
@@ -699,7 +965,9 @@ public class PostServiceTest {
         updateRequest.setTitle("更新後的標題");
         updateRequest.setBody("更新後的內容");
 
-        given(postRepository.findByPostIdAndStatus(nonExistPostId, PostStatus.ACTIVE)).willReturn(Optional.empty());
+        given(postRepository.updateContentIfPermitted(eq(nonExistPostId), eq(1L), eq(false), eq(PostStatus.ACTIVE),
+                eq("更新後的標題"), eq("更新後的內容"), any(Instant.class))).willReturn(0);
+        given(postRepository.existsByPostIdAndStatus(nonExistPostId, PostStatus.ACTIVE)).willReturn(false);
 
         // == When ==
         ApiException exception = assertThrows(ApiException.class, () -> {
@@ -711,7 +979,6 @@ public class PostServiceTest {
         assertEquals(PostErrorCode.POST_NOT_FOUND, exception.getErrorCode());
 
         // == Verify ==
-        verify(postRepository).findByPostIdAndStatus(nonExistPostId,PostStatus.ACTIVE);
-        verify(postRepository, never()).save(any());
+        verify(postRepository, never()).findContentByPostId(anyLong());
     }
 }
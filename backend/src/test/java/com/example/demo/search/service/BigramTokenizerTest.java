@@ -0,0 +1,44 @@
+package com.example.demo.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BigramTokenizerTest {
+
+    @Test
+    void tokenize_MixedChineseAndLatin() {
+        // == When ==
+        Set<String> terms = BigramTokenizer.tokenize("關於Java資料庫問題");
+
+        // == Then ==
+        assertEquals(List.of("關於", "java", "資料", "料庫", "庫問", "問題"), List.copyOf(terms));
+    }
+
+    @Test
+    void tokenize_FullWidthAndPunctuationNormalized() {
+        // == When ==
+        Set<String> terms = BigramTokenizer.tokenize("ＳＰＲＩＮＧ　Boot！我");
+
+        // == Then ==
+        assertEquals(List.of("spring", "boot", "我"), List.copyOf(terms));
+    }
+
+    @Test
+    void indexTerms_CjkUnigramsAdded() {
+        // == When ==
+        Set<String> terms = BigramTokenizer.indexTerms("我的貓咪 cat");
+
+        // == Then ==
+        assertEquals(List.of("我", "我的", "的", "的貓", "貓", "貓咪", "咪", "cat"), List.copyOf(terms));
+    }
+
+    @Test
+    void tokenize_OnlyPunctuation_Empty() {
+        assertTrue(BigramTokenizer.tokenize("?!...，。").isEmpty());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.search.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class PostSearchIndexTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostSearchIndex index = new PostSearchIndex(jdbcTemplate, 1000, "", Duration.ofSeconds(1));
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.destroy();
+    }
+
+    @Test
+    void build_LoadsActivePostsAndBecomesReady() {
+        // == Given ==
+        given(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), eq(0L), eq(1000)))
+                .willAnswer(invocation -> List.of(row(invocation.getArgument(1), 5L, 2L, "資料庫效能", "")));
+        assertFalse(index.isReady());
+
+        // == When ==
+        index.build();
+
+        // == Then ==
+        assertTrue(index.isReady());
+        assertEquals(List.of(5L), index.search(BigramTokenizer.tokenize("效能"), 2L, Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    void search_AllTermsMustMatch_NewestFirst() {
+        // == Given ==
+        index.index(1L, 1L, "SpringBoot 資料庫", "請問連線設定");
+        index.index(2L, 1L, "資料庫 效能", "索引怎麼建");
+        index.index(3L, 2L, "資料庫 問題", "Spring 的交易");
+        index.refresh();
+
+        // == When ==
+        List<Long> result = index.search(BigramTokenizer.tokenize("資料庫"), null, Long.MAX_VALUE, 10);
+        List<Long> both = index.search(Set.of("資料", "料庫", "spring"), null, Long.MAX_VALUE, 10);
+
+        // == Then ==
+        assertEquals(List.of(3L, 2L, 1L), result);
+        assertEquals(List.of(3L), both);
+    }
+
+    @Test
+    void search_SingleCharacterQuery_MatchesInsideLongerWord() {
+        // == Given ==
+        index.index(1L, 1L, "我家的貓咪", "很可愛");
+        index.index(2L, 1L, "狗狗日常", "散步");
+        index.refresh();
+
+        // == When ==
+        List<Long> result = index.search(BigramTokenizer.tokenize("貓"), null, Long.MAX_VALUE, 10);
+
+        // == Then ==
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    void search_BoardFilterAndKeysetPaging() {
+        // == Given ==
+        for (long postId = 1; postId <= 6; postId++) {
+            index.index(postId, postId % 2, "心得分享 " + postId, "");
+        }
+        index.refresh();
+
+        // == When ==
+        List<Long> firstPage = index.search(Set.of("心得"), 0L, Long.MAX_VALUE, 2);
+        List<Long> secondPage = index.search(Set.of("心得"), 0L, firstPage.get(1), 2);
+
+        // == Then ==
+        assertEquals(List.of(6L, 4L), firstPage);
+        assertEquals(List.of(2L), secondPage);
+    }
+
+    @Test
+    void updateAndRemove_PostingsFollowLatestContent() {
+        // == Given ==
+        index.index(1L, 1L, "舊標題", "");
+
+        // == When ==
+        index.index(1L, 1L, "新標題", "");
+        index.refresh();
+
+        // == Then ==
+        assertTrue(index.search(Set.of("舊標"), null, Long.MAX_VALUE, 10).isEmpty());
+        assertEquals(List.of(1L), index.search(Set.of("新標"), null, Long.MAX_VALUE, 10));
+
+        // == When ==
+        index.remove(1L);
+        index.refresh();
+
+        // == Then ==
+        assertTrue(index.search(Set.of("標題"), null, Long.MAX_VALUE, 10).isEmpty());
+    }
+
+    @Test
+    void index_VisibleAfterRefresh() {
+        // == When ==
+        index.index(1L, 1L, "近即時搜尋", "");
+
+        // == Then ==
+        // 寫入不等待 reopen，排程 refresh 之後才搜得到
+        assertTrue(index.search(Set.of("即時"), null, Long.MAX_VALUE, 10).isEmpty());
+        index.refresh();
+        assertEquals(List.of(1L), index.search(Set.of("即時"), null, Long.MAX_VALUE, 10));
+    }
+
+    // 以 build 傳入的 RowMapper 轉換一列資料
+    private static Object row(RowMapper<?> mapper, long postId, long boardId, String title, String body)
+            throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("post_id")).willReturn(postId);
+        given(rs.getLong("board_id")).willReturn(boardId);
+        given(rs.getString("title")).willReturn(title);
+        given(rs.getString("body")).willReturn(body);
+        return mapper.mapRow(rs, 0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.search.service;
+
+import com.example.demo.board.service.BoardCatalog;
+import com.example.demo.common.error.ErrorMessage;
+import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.pagination.CursorCodec;
+import com.example.demo.post.dto.PostItem;
+import com.example.demo.post.enums.PostStatus;
+import com.example.demo.post.repository.PostRepository;
+import com.example.demo.search.dto.SearchPostsRequest;
+import com.example.demo.search.dto.SearchPostsResponse;
+import com.example.demo.search.error.SearchErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTest {
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private BoardCatalog boardCatalog;
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    void searchPosts_KeepsIndexOrderAndReturnsCursor() {
+        // == Given ==
+        SearchPostsRequest request = new SearchPostsRequest();
+        request.setQ("資料庫");
+        request.setPageSize(2);
+
+        given(postSearchIndex.isReady()).willReturn(true);
+        given(postSearchIndex.search(Set.of("資料", "料庫"), null, Long.MAX_VALUE, 3)).willReturn(List.of(9L, 7L, 4L));
+        // 資料庫回傳的順序與索引不同
+        given(postRepository.findItemsByPostIdIn(List.of(9L, 7L), PostStatus.ACTIVE))
+                .willReturn(List.of(item(7L), item(9L)));
+
+        // == When ==
+        SearchPostsResponse response = searchService.searchPosts(request);
+
+        // == Then ==
+        assertEquals(List.of(9L, 7L), response.getItems().stream().map(PostItem::getPostId).toList());
+        assertEquals("7", CursorCodec.decode(response.getNextCursor(), 1)[0]);
+    }
+
+    @Test
+    void searchPosts_NoSearchableTerm_ThrowException() {
+        // == Given ==
+        SearchPostsRequest request = new SearchPostsRequest();
+        request.setQ("?!");
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> searchService.searchPosts(request));
+
+        // == Then ==
+        assertEquals(ErrorMessage.VALIDATION_FAILED, exception.getErrorMessage());
+        assertEquals(SearchErrorCode.KEYWORD_INVALID, exception.getErrorCode());
+        verifyNoInteractions(postSearchIndex);
+    }
+
+    @Test
+    void searchPosts_UnknownBoard_ThrowException() {
+        // == Given ==
+        SearchPostsRequest request = new SearchPostsRequest();
+        request.setQ("java");
+        request.setBoardId(99L);
+        given(boardCatalog.exists(99L)).willReturn(false);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> searchService.searchPosts(request));
+
+        // == Then ==
+        assertEquals(SearchErrorCode.BOARD_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(postSearchIndex);
+    }
+
+    @Test
+    void searchPosts_IndexNotReady_ServiceUnavailable() {
+        // == Given ==
+        SearchPostsRequest request = new SearchPostsRequest();
+        request.setQ("java");
+        given(postSearchIndex.isReady()).willReturn(false);
+
+        // == When ==
+        ApiException exception = assertThrows(ApiException.class, () -> searchService.searchPosts(request));
+
+        // == Then ==
+        assertEquals(ErrorMessage.SERVICE_UNAVAILABLE, exception.getErrorMessage());
+        assertEquals(SearchErrorCode.SEARCH_INDEX_NOT_READY, exception.getErrorCode());
+        verify(postSearchIndex, never()).search(any(), any(), anyLong(), anyInt());
+    }
+
+    private static PostItem item(long postId) {
+        return new PostItem(postId, 1L, "Leo", 1L, "軟體版", "資料庫問題" + postId, 0, 0.0,
+                PostStatus.ACTIVE, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
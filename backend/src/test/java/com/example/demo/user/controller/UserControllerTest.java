@@ -5,6 +5,7 @@ import com.example.demo.common.exception.ApiException;
 import com.example.demo.common.exception.GlobalExceptionHandler;
 import com.example.demo.common.security.JwtAuthenticationEntryPoint;
 import com.example.demo.common.security.JwtService;
+import com.example.demo.common.security.TokenRevocationStore;
 import com.example.demo.common.security.SecurityConfig;
 import com.example.demo.user.dto.LoginRequest;
 import com.example.demo.user.dto.LoginResponse;
@@ -55,6 +56,9 @@ public class UserControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationStore tokenRevocationStore;
+
     @MockitoBean
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
@@ -2,6 +2,7 @@ package com.example.demo.user.service;
 
 import com.example.demo.common.error.ErrorMessage;
 import com.example.demo.common.exception.ApiException;
+import com.example.demo.common.security.BoundedPasswordEncoder.PasswordHashingRejectedException;
 import com.example.demo.common.security.JwtService;
 import com.example.demo.user.dto.LoginRequest;
 import com.example.demo.user.dto.LoginResponse;
@@ -194,4 +195,47 @@ public class UserServiceTest {
         verify(userRepository).findByEmail(request.getEmail());
         verify(passwordEncoder).matches(request.getPassword(), finduser.getPasswordHash());
     }
+
+    @Test
+    void loginUser_HashingPoolSaturated_ReturnsTooManyRequests() {
+        // == Given ==
+        LoginRequest request = new LoginRequest();
+        request.setEmail("leo@example.com");
+        request.setPassword("abc12345");
+
+        User finduser = new User();
+        finduser.setUserId(1L);
+        finduser.setEmail("leo@example.com");
+        finduser.setPasswordHash("hashed_password");
+        finduser.setRole(UserRole.USER);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(finduser));
+        when(passwordEncoder.matches(anyString(), anyString()))
+                .thenThrow(new PasswordHashingRejectedException("Password hashing queue is full", null));
+
+        // == When & Then==
+        ApiException exception = assertThrows(ApiException.class, () -> userService.loginUser(request));
+        assertEquals(ErrorMessage.TOO_MANY_REQUESTS, exception.getErrorMessage());
+        assertEquals(UserErrorCode.AUTH_BUSY, exception.getErrorCode());
+        verify(jwtService, never()).generateToken(any(), any());
+    }
+
+    @Test
+    void registerUser_HashingPoolSaturated_ReturnsTooManyRequests() {
+        // == Given ==
+        RegisterUserRequest request = new RegisterUserRequest();
+        request.setName("Leo");
+        request.setEmail("leo@example.com");
+        request.setPassword("abc12345");
+        request.setConfirmPassword("abc12345");
+
+        when(userRepository.existsByEmail("leo@example.com")).thenReturn(false);
+        when(passwordEncoder.encode(anyString()))
+                .thenThrow(new PasswordHashingRejectedException("Password hashing queue is full", null));
+
+        // == When & Then==
+        ApiException exception = assertThrows(ApiException.class, () -> userService.registerUser(request));
+        assertEquals(ErrorMessage.TOO_MANY_REQUESTS, exception.getErrorMessage());
+        assertEquals(UserErrorCode.AUTH_BUSY, exception.getErrorCode());
+        verify(userRepository, never()).save(any(User.class));
+    }
 }
@@ -15,6 +15,7 @@ CREATE TABLE `boards` (
     `name` VARCHAR(20) NOT NULL,
     `description` VARCHAR(100) NOT NULL,
     `created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    `post_count` BIGINT NOT NULL DEFAULT 0,
 
     CONSTRAINT `pk_boards` PRIMARY KEY (`board_id`),
     CONSTRAINT `uk_boards_name` UNIQUE (`name`)
@@ -52,6 +53,27 @@ CREATE TABLE `comments` (
     CONSTRAINT `fk_comments_author_id` FOREIGN KEY (`author_id`) REFERENCES `users` (`user_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `likes` (
+    `like_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `user_id` BIGINT NOT NULL,
+    `post_id` BIGINT NOT NULL,
+    `created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+    CONSTRAINT `pk_likes` PRIMARY KEY (`like_id`),
+    CONSTRAINT `uq_likes_user_post` UNIQUE (`user_id`, `post_id`),
+    CONSTRAINT `fk_likes_user_id` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`),
+    CONSTRAINT `fk_likes_post_id` FOREIGN KEY (`post_id`) REFERENCES `posts` (`post_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
 -- 新增索引以優化看板文章列表查詢
 CREATE INDEX `idx_posts_board_created` ON `posts` (`board_id`, `created_at`);
 CREATE INDEX `idx_posts_board_hot` ON `posts` (`board_id`, `hot_score`);
+
+-- 熱門分數排程掃描 decay window 內的文章；未指定看板的首頁動態 (LATEST)
+CREATE INDEX `idx_posts_created` ON `posts` (`created_at`);
+
+-- 未指定看板的首頁動態 (HOT)
+CREATE INDEX `idx_posts_hot` ON `posts` (`hot_score`);
+
+-- 文章留言列表 (keyset 分頁，依 created_at, comment_id 遞增)
+CREATE INDEX `idx_comments_post_status_created` ON `comments` (`post_id`, `status`, `created_at`, `comment_id`);